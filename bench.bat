@@ -0,0 +1,24 @@
+@echo off
+echo Building benchmarks...
+
+if not exist build mkdir build
+javac -d build src\phase1\*.java
+if %errorlevel% neq 0 (
+    echo Error compiling Phase 1!
+    exit /b 1
+)
+
+javac -cp build -d build src\phase2\Symbol.java src\phase2\SymbolTable.java src\phase2\SymbolMap.java src\phase2\FrozenSymbolTable.java src\phase2\SymbolTableFile.java src\phase2\ManualSymbolTableBuilder.java src\phase2\SymbolTableEvent.java src\phase2\ReportEvent.java
+if %errorlevel% neq 0 (
+    echo Error compiling Phase 2!
+    exit /b 1
+)
+
+javac -cp build -d build src\benchmark\*.java
+if %errorlevel% neq 0 (
+    echo Error compiling benchmarks!
+    exit /b 1
+)
+
+echo.
+java -cp build benchmark.Benchmarks %*
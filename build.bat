@@ -15,7 +15,7 @@ if %errorlevel% neq 0 (
 
 echo.
 echo Compiling Phase 2 (Symbol Table)...
-javac -cp build -d build src\phase2\Symbol.java src\phase2\SymbolTable.java src\phase2\ManualSymbolTableBuilder.java
+javac -cp build -d build src\phase2\Symbol.java src\phase2\SymbolTable.java src\phase2\SymbolMap.java src\phase2\FrozenSymbolTable.java src\phase2\SymbolTableFile.java src\phase2\ManualSymbolTableBuilder.java src\phase2\SymbolTableEvent.java src\phase2\ReportEvent.java
 if %errorlevel% neq 0 (
     echo Error compiling Phase 2!
     exit /b 1
@@ -23,7 +23,7 @@ if %errorlevel% neq 0 (
 
 echo.
 echo Compiling Main...
-javac -cp build -d build src\Main.java
+javac -cp build -d build src\Main.java src\BatchCompiler.java
 if %errorlevel% neq 0 (
     echo Error compiling Main!
     exit /b 1
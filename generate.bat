@@ -0,0 +1,18 @@
+@echo off
+echo Regenerating lexer tables...
+
+if not exist build mkdir build
+javac -d build src\phase1\*.java
+if %errorlevel% neq 0 (
+    echo Error compiling Phase 1!
+    exit /b 1
+)
+
+java -cp build phase1.LexerGenerator src\phase1\LexerTables.java
+if %errorlevel% neq 0 (
+    echo Error generating lexer tables!
+    exit /b 1
+)
+
+echo.
+echo Lexer tables regenerated. Run build.bat to rebuild the project.
@@ -1,6 +1,6 @@
 @echo off
 echo Running Java-- Compiler...
 echo.
-java -cp build Main
+java -cp build Main %*
 echo.
 echo Program finished.
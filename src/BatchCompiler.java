@@ -0,0 +1,231 @@
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
+import phase1.*;
+import phase2.*;
+
+// Compiles many .jmm files at once: every file is lexed and gets its symbol table on a
+// work-stealing pool, and the per-file output is printed in sorted path order as soon
+// as all earlier files are done, so the output does not depend on scheduling.
+//
+// Usage: java -cp build Main [options] <file | directory | glob>...
+//   -threads <n>   pool size, default one per available core
+//   -report        print each file's symbol table report instead of one summary line
+//   -cache <dir>   reuse lexer output of unchanged files (see TokenCache)
+public class BatchCompiler {
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private boolean report = false;
+    private TokenCache tokenCache;
+    private final List<String> inputs = new ArrayList<>();
+
+    public static void main(String[] args) throws Exception {
+        new BatchCompiler().run(args);
+    }
+
+    public void run(String[] args) throws Exception {
+        if (!parseArgs(args)) {
+            return;
+        }
+        List<Path> files = collectFiles();
+        if (files.isEmpty()) {
+            System.err.println("No .jmm files found");
+            return;
+        }
+
+        long start = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        List<ForkJoinTask<FileResult>> tasks = new ArrayList<>(files.size());
+        for (Path file : files) {
+            tasks.add(pool.submit(() -> compile(file)));
+        }
+
+        long tokens = 0;
+        long symbols = 0;
+        int failed = 0;
+        for (int i = 0; i < tasks.size(); i++) {
+            FileResult result = tasks.get(i).join();
+            tasks.set(i, null);
+            System.out.print(result.output);
+            tokens += result.tokens;
+            symbols += result.symbols;
+            if (result.failed) {
+                failed++;
+            }
+        }
+        pool.shutdown();
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println();
+        System.out.println(String.format("Compiled %,d files (%,d with errors) on %d thread%s in %.3f s",
+            files.size(), failed, threads, threads == 1 ? "" : "s", seconds));
+        System.out.println(String.format("%,d tokens, %,d symbols; %,.1f files/s, %,.0f tokens/s",
+            tokens, symbols, files.size() / seconds, tokens / seconds));
+    }
+
+    // Returns false after printing usage if the arguments are not valid.
+    private boolean parseArgs(String[] args) throws IOException {
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            boolean hasValue = i + 1 < args.length;
+            switch (option) {
+                case "-threads":
+                    if (!hasValue) {
+                        return usage("-threads needs a thread count");
+                    }
+                    try {
+                        threads = Integer.parseInt(args[++i]);
+                    } catch (NumberFormatException e) {
+                        return usage("-threads needs a thread count, not '" + args[i] + "'");
+                    }
+                    if (threads < 1) {
+                        return usage("-threads must be at least 1");
+                    }
+                    break;
+                case "-report": report = true; break;
+                case "-cache":
+                    if (!hasValue) {
+                        return usage("-cache needs a directory");
+                    }
+                    tokenCache = new TokenCache(Paths.get(args[++i]));
+                    break;
+                default:
+                    if (option.startsWith("-")) {
+                        return usage("Unknown option: " + option);
+                    }
+                    inputs.add(option);
+            }
+        }
+        return true;
+    }
+
+    private static boolean usage(String problem) {
+        System.err.println(problem);
+        System.err.println("Usage: java -cp build Main [options] <file | directory | glob>...");
+        System.err.println("  -threads <n>   pool size, default one per available core");
+        System.err.println("  -report        print each file's symbol table report instead of one summary line");
+        System.err.println("  -cache <dir>   reuse lexer output of unchanged files");
+        return false;
+    }
+
+    // Directories contribute their .jmm files recursively, globs every file they match
+    // below their fixed leading directories, and plain paths themselves.
+    private List<Path> collectFiles() throws IOException {
+        TreeSet<Path> files = new TreeSet<>();
+        for (String input : inputs) {
+            if (isGlob(input)) {
+                PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + input);
+                try (Stream<Path> walk = Files.walk(globBase(input))) {
+                    walk.filter(Files::isRegularFile).filter(matcher::matches).forEach(files::add);
+                }
+            } else {
+                Path path = Paths.get(input);
+                if (Files.isDirectory(path)) {
+                    try (Stream<Path> walk = Files.walk(path)) {
+                        walk.filter(Files::isRegularFile)
+                            .filter(file -> file.getFileName().toString().endsWith(".jmm"))
+                            .forEach(files::add);
+                    }
+                } else if (Files.isRegularFile(path)) {
+                    files.add(path);
+                } else {
+                    throw new IOException("No such file or directory: " + input);
+                }
+            }
+        }
+        return new ArrayList<>(files);
+    }
+
+    private static boolean isGlob(String input) {
+        return input.indexOf('*') >= 0 || input.indexOf('?') >= 0
+            || input.indexOf('[') >= 0 || input.indexOf('{') >= 0;
+    }
+
+    private static Path globBase(String glob) {
+        Path base = null;
+        for (String part : glob.split("[/\\\\]")) {
+            if (isGlob(part)) {
+                break;
+            }
+            base = base == null ? Paths.get(part.isEmpty() ? "/" : part) : base.resolve(part);
+        }
+        return base == null ? Paths.get("") : base;
+    }
+
+    private FileResult compile(Path file) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(buffer, false, StandardCharsets.UTF_8);
+        FileResult result = new FileResult();
+
+        try {
+            Lexer lexer = new Lexer(file);
+            lexer.setTokenCache(tokenCache);
+            TokenBuffer tokens = lexer.tokenizeToBuffer();
+
+            ManualSymbolTableBuilder builder = new ManualSymbolTableBuilder();
+            builder.setSourceName(file.toString());
+            builder.setErrorStream(null);
+            SymbolTable table = builder.buildSymbolTable(tokens);
+
+            int errors = 0;
+            for (int i = 0; i < tokens.size(); i++) {
+                if (tokens.getType(i) == TokenType.ERROR) {
+                    errors++;
+                }
+            }
+            result.tokens = tokens.size();
+            result.symbols = table.getTotalSymbolCount();
+            result.failed = errors > 0 || builder.getError() != null;
+
+            if (report) {
+                out.println("=== " + file + " ===");
+                table.generateReport(out);
+                if (builder.getError() != null) {
+                    out.println("Error building symbol table: " + builder.getError().getMessage());
+                }
+            } else {
+                out.print(String.format("%s: %d tokens, %d symbols, %d scopes",
+                    file, tokens.size(), result.symbols, table.getScopeCount()));
+                if (errors > 0) {
+                    out.print(", " + errors + " lexical errors");
+                }
+                if (builder.getError() != null) {
+                    out.print(", error: " + builder.getError().getMessage());
+                }
+                out.println();
+            }
+        } catch (IOException e) {
+            CompilerMetrics.recordError();
+            result.failed = true;
+            out.println(file + ": cannot read: " + e.getMessage());
+        } catch (RuntimeException e) {
+            // A bug hit by one file fails that file only; drop its partial output.
+            CompilerMetrics.recordError();
+            buffer.reset();
+            result.failed = true;
+            out.println(file + ": internal error: " + e);
+        }
+
+        out.flush();
+        result.output = buffer.toString(StandardCharsets.UTF_8);
+        return result;
+    }
+
+    private static final class FileResult {
+        String output;
+        int tokens;
+        int symbols;
+        boolean failed;
+    }
+}
@@ -1,9 +1,19 @@
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import phase1.*;
 import phase2.*;
 
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
+        // With file, directory or glob arguments, compile those instead of the samples.
+        if (args.length > 0) {
+            BatchCompiler.main(args);
+            return;
+        }
+
         String code1 = 
     "class HelloWorld {\n" +
     "    public static void main(String[] args) {\n" +
@@ -76,6 +86,17 @@ public class Main {
         System.out.println("\n=== Test 6: Comّparison Operators ===");
         testLexer(code6);
 
+        // Large enough to be split into chunks; each copy declares new names.
+        StringBuilder large = new StringBuilder();
+        for (int i = 0; large.length() < 512 * 1024; i++) {
+            for (String code : new String[] { code2, code3, code4, code5, code6 }) {
+                large.append(code.replace("class ", "class C" + i + "_")).append('\n');
+            }
+        }
+
+        System.out.println("\n=== Test 7: Parallel Lexing with a Name Pool ===");
+        testParallelNamePool(large.toString());
+
         // Symbol Table
         System.out.println("\n" + "=".repeat(80));
         System.out.println("                    SYMBOL TABLE TESTS");
@@ -112,6 +133,18 @@ public class Main {
             "}::";
 
         testSymbolTable(complexCode, "Complex Class with Interface");
+        testNamePool(complexCode);
+
+        String editedCode =
+            "class Shape {\n" +
+            "    int f;\n" +
+            "    int m(int p) {\n" +
+            "        int q;\n" +
+            "        boolean done;\n" +
+            "    }\n" +
+            "}";
+
+        testIncrementalRebuild(editedCode, editedCode.indexOf("int f;") + "int f;".length(), "\n    int g;");
 
     }
 
@@ -124,6 +157,94 @@ public class Main {
         }
     }
     
+    private static void testParallelNamePool(String code) {
+        Lexer sequential = new Lexer(code);
+        sequential.setNamePool(new NamePool());
+        List<LexerToken> expected = sequential.tokenize();
+
+        Lexer parallel = new Lexer(code);
+        parallel.setNamePool(new NamePool());
+        List<LexerToken> actual = parallel.tokenizeParallel(8);
+
+        int mismatches = Math.abs(expected.size() - actual.size());
+        for (int i = 0; i < Math.min(expected.size(), actual.size()); i++) {
+            LexerToken a = expected.get(i);
+            LexerToken b = actual.get(i);
+            if (a.getType() != b.getType() || a.getOffset() != b.getOffset()
+                    || a.getNameId() != b.getNameId() || !a.getValue().equals(b.getValue())) {
+                mismatches++;
+            }
+        }
+        System.out.println(expected.size() + " tokens, " + mismatches + " mismatches: "
+            + (mismatches == 0 ? "PASS" : "FAIL"));
+    }
+    
+    // Two builds of the same code must not share a name pool, and a pool holds only the
+    // declared names, never literal text such as "100".
+    private static void testNamePool(String code) {
+        System.out.println("\n=== Name Pool Test: One Pool per Compilation ===");
+
+        ManualSymbolTableBuilder first = new ManualSymbolTableBuilder();
+        first.setErrorStream(null);
+        SymbolTable a = first.buildSymbolTable(code);
+        ManualSymbolTableBuilder second = new ManualSymbolTableBuilder();
+        second.setErrorStream(null);
+        SymbolTable b = second.buildSymbolTable(code);
+
+        Set<String> declared = new HashSet<>();
+        collectNames(a, declared);
+        NamePool pool = a.getNamePool();
+        boolean separate = pool != b.getNamePool();
+        boolean declaredOnly = pool.size() == declared.size() && pool.find("100") < 0;
+        boolean found = a.lookup("Calculator") != null && b.lookup("Calculator") != null;
+        System.out.println(pool.size() + " names pooled: "
+            + (separate && declaredOnly && found ? "PASS" : "FAIL"));
+    }
+
+    private static void collectNames(SymbolTable scope, Set<String> names) {
+        for (Symbol symbol : scope.getAllSymbols()) {
+            names.add(symbol.getName());
+        }
+        for (SymbolTable child : scope.getChildren()) {
+            collectNames(child, names);
+        }
+    }
+
+    // Adds a field to the class body and checks that the method and the symbols and
+    // scope inside it are the same objects afterwards, and that the result matches a
+    // full build of the edited code.
+    private static void testIncrementalRebuild(String code, int offset, String insertedText) {
+        System.out.println("\n=== Incremental Rebuild Test: Field Added to a Class Body ===");
+        
+        ManualSymbolTableBuilder builder = new ManualSymbolTableBuilder();
+        SymbolTable table = builder.buildSymbolTable(code);
+        SymbolTable classScope = table.lookup("Shape").getLocalScope();
+        Symbol method = classScope.lookupLocal("m");
+        SymbolTable methodScope = method.getLocalScope();
+        Symbol parameter = methodScope.lookupLocal("p");
+        Symbol local = methodScope.lookupLocal("q");
+        
+        SymbolTable rebuilt = builder.rebuildSymbolTable(table, code, offset, 0, insertedText);
+        String edited = code.substring(0, offset) + insertedText + code.substring(offset);
+        SymbolTable full = new ManualSymbolTableBuilder().buildSymbolTable(edited);
+        
+        Symbol newMethod = classScope.lookupLocal("m");
+        boolean sameObjects = rebuilt == table && newMethod == method
+            && newMethod.getLocalScope() == methodScope
+            && methodScope.lookupLocal("p") == parameter
+            && methodScope.lookupLocal("q") == local;
+        boolean sameTable = tableText(rebuilt).equals(tableText(full));
+        
+        System.out.println("Unchanged symbols and scopes kept: " + (sameObjects ? "PASS" : "FAIL"));
+        System.out.println("Same table as a full build: " + (sameTable ? "PASS" : "FAIL"));
+    }
+    
+    private static String tableText(SymbolTable table) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        table.printTable(new PrintStream(buffer));
+        return buffer.toString();
+    }
+    
     private static void testSymbolTable(String code, String testName) {
         System.out.println("\n=== Symbol Table Test: " + testName + " ===");
         
@@ -0,0 +1,148 @@
+package benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import phase1.*;
+import phase2.*;
+
+// Benchmarks for the lexer and symbol-table hot paths. Run with bench.bat, e.g.
+//   bench.bat                      all benchmarks, throughput
+//   bench.bat -prof gc lexer       lexer benchmarks with allocation per operation
+public class Benchmarks {
+    public static void main(String[] args) throws Exception {
+        Harness harness = new Harness(Benchmarks.class);
+
+        String small = corpus(1 << 10, false);
+        String large = corpus(1 << 20, false);
+        String smallDeclarations = corpus(1 << 10, true);
+        String largeDeclarations = corpus(1 << 20, true);
+
+        harness.register("lexer.tokenize.small", () -> () -> new Lexer(small).tokenize());
+        harness.register("lexer.tokenize.large", () -> () -> new Lexer(large).tokenize());
+        harness.register("lexer.tokenizeToBuffer.large", () -> () -> new Lexer(large).tokenizeToBuffer());
+        harness.register("lexer.tokenize.cached.large", () -> cached(large, false));
+        harness.register("lexer.tokenizeToBuffer.cached.large", () -> cached(large, true));
+
+        // ManualSymbolTableBuilder only parses declaration-only method bodies cleanly.
+        harness.register("symtab.build.small",
+            () -> () -> new ManualSymbolTableBuilder().buildSymbolTable(smallDeclarations));
+        harness.register("symtab.build.large",
+            () -> () -> new ManualSymbolTableBuilder().buildSymbolTable(largeDeclarations));
+        harness.register("symtab.buildParallel.large",
+            () -> () -> new ManualSymbolTableBuilder().buildSymbolTableParallel(largeDeclarations));
+        harness.register("symtab.freeze.large", () -> {
+            SymbolTable table = new ManualSymbolTableBuilder().buildSymbolTable(largeDeclarations);
+            return () -> table.freeze();
+        });
+        harness.register("symtab.rebuild.large", () -> rebuild(largeDeclarations));
+        // Restoring the large table from disk instead of rebuilding it: map, check the
+        // header and answer one lookup.
+        harness.register("symtab.openFile.large", () -> {
+            Path file = Files.createTempDirectory("symbol-table").resolve("large.sym");
+            SymbolTableFile.write(new ManualSymbolTableBuilder().buildSymbolTable(largeDeclarations), file);
+            return () -> SymbolTableFile.open(file).lookup(0, "main");
+        });
+
+        for (int depth : new int[] {1, 2, 4, 8, 16, 32, 64}) {
+            harness.register("symtab.lookup.depth" + depth + ".outer", () -> lookup(depth, "outer"));
+            harness.register("symtab.lookup.depth" + depth + ".inner", () -> lookup(depth, "inner"));
+            harness.register("symtab.lookup.depth" + depth + ".missing", () -> lookup(depth, "missing"));
+            harness.register("symtab.frozenLookup.depth" + depth + ".outer", () -> frozenLookup(depth, "outer"));
+            harness.register("symtab.frozenLookup.depth" + depth + ".missing", () -> frozenLookup(depth, "missing"));
+        }
+
+        harness.register("symtab.generateReport", () -> {
+            SymbolTable table = new ManualSymbolTableBuilder().buildSymbolTable(corpus(64 << 10, true));
+            PrintStream discard = new PrintStream(OutputStream.nullOutputStream());
+            return () -> {
+                PrintStream out = System.out;
+                System.setOut(discard);
+                try {
+                    table.generateReport();
+                } finally {
+                    System.setOut(out);
+                }
+                return table;
+            };
+        });
+
+        harness.run(args);
+    }
+
+    // Generated corpus of about size bytes with a fixed seed, so every run and every
+    // build measures the same input.
+    static String corpus(long size, boolean declarationsOnly) {
+        CorpusGenerator generator = new CorpusGenerator();
+        generator.setSeed(42);
+        generator.setTargetSize(size);
+        generator.setDeclarationsOnly(declarationsOnly);
+        return generator.generate();
+    }
+
+    // Replays large from a token cache that already holds its entry.
+    private static Harness.Benchmark cached(String source, boolean buffer) throws Exception {
+        TokenCache cache = new TokenCache(Files.createTempDirectory("token-cache"));
+        Lexer warm = new Lexer(source);
+        warm.setTokenCache(cache);
+        warm.tokenize();
+        return () -> {
+            Lexer lexer = new Lexer(source);
+            lexer.setTokenCache(cache);
+            return buffer ? lexer.tokenizeToBuffer() : lexer.tokenize();
+        };
+    }
+
+    private static Harness.Benchmark lookup(int depth, String name) throws Exception {
+        SymbolTable innermost = scopeChain(depth, name);
+        return () -> innermost.lookup(name);
+    }
+
+    // The same chain frozen; the innermost scope is the last one in pre-order.
+    private static Harness.Benchmark frozenLookup(int depth, String name) throws Exception {
+        SymbolTable innermost = scopeChain(depth, name);
+        SymbolTable root = innermost;
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+        FrozenSymbolTable frozen = root.freeze();
+        int scope = frozen.getScopeCount() - 1;
+        return () -> frozen.lookup(scope, name);
+    }
+
+    // Declares and removes a local variable in a method body in the middle of source;
+    // each operation is two incremental rebuilds that leave the table as it started.
+    private static Harness.Benchmark rebuild(String source) throws Exception {
+        ManualSymbolTableBuilder builder = new ManualSymbolTableBuilder();
+        SymbolTable table = builder.buildSymbolTable(source);
+        String declaration = " int rebuilt;";
+        int offset = source.indexOf("{", source.indexOf("(", source.length() / 2)) + 1;
+        String edited = source.substring(0, offset) + declaration + source.substring(offset);
+        if (builder.rebuildSymbolTable(table, source, offset, 0, declaration) != table
+            || builder.rebuildSymbolTable(table, edited, offset, declaration.length(), "") != table) {
+            throw new IllegalStateException("Benchmark edit is not rebuilt incrementally");
+        }
+        return () -> {
+            builder.rebuildSymbolTable(table, source, offset, 0, declaration);
+            return builder.rebuildSymbolTable(table, edited, offset, declaration.length(), "");
+        };
+    }
+
+    // A chain of depth nested scopes with eight symbols each; "outer" is declared in the
+    // outermost scope, "inner" in the innermost one, and "missing" nowhere. All three are
+    // interned, so a miss walks the whole chain instead of failing on the name.
+    private static SymbolTable scopeChain(int depth, String name) throws Exception {
+        SymbolTable scope = new SymbolTable("Global", null);
+        scope.getNamePool().intern(name);
+        scope.addSymbol(new Symbol("outer", Symbol.Type.CLASS, null, 1, 1));
+        for (int level = 1; level < depth; level++) {
+            scope = new SymbolTable("Scope" + level, scope);
+            for (int i = 0; i < 8; i++) {
+                scope.addSymbol(new Symbol("v" + level + "_" + i, Symbol.Type.VARIABLE, "int", level, i + 1));
+            }
+        }
+        scope.addSymbol(new Symbol("inner", Symbol.Type.VARIABLE, "int", depth, 1));
+        return scope;
+    }
+}
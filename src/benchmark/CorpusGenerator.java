@@ -0,0 +1,676 @@
+package benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Deterministic generator of valid Java-- programs for benchmarks and load tests. The
+// same seed and settings always produce the same text.
+//
+// Without a target size the output holds exactly the configured number of classes and
+// interfaces. With one, that mix is repeated, with fresh names, and generation stops
+// after the first declaration that reaches the target size. All names are unique, so
+// every program also builds a symbol table without duplicate errors.
+//
+// ManualSymbolTableBuilder only parses method bodies made of local declarations and
+// statements that contain no identifiers; setDeclarationsOnly(true) restricts bodies
+// to that shape.
+//
+// Usage: java benchmark.CorpusGenerator [-seed n] [-size 10MB] [-classes n]
+//            [-interfaces n] [-methods min-max] [-fields min-max] [-locals min-max]
+//            [-statements min-max] [-depth n] [-comments p] [-literals i,s,c,b]
+//            [-declarations-only] [-o file]
+public class CorpusGenerator {
+    private static final String[] TYPES = {"int", "String", "char", "boolean"};
+    private static final String[] FIELD_STEMS = {"count", "total", "index", "value", "size", "offset",
+        "limit", "score", "level", "width", "height", "label", "title", "flag", "code", "mark"};
+    private static final String[] METHOD_STEMS = {"compute", "update", "check", "load", "store",
+        "apply", "reset", "find", "merge", "scan", "render", "visit"};
+    private static final String[] WORDS = {"the", "value", "is", "checked", "before", "each", "loop",
+        "and", "stored", "in", "a", "field", "for", "later", "use", "when", "input", "changes"};
+
+    private long seed = 1;
+    private long targetSize = 0;
+    private int classCount = 4;
+    private int interfaceCount = 1;
+    private int minMethods = 2;
+    private int maxMethods = 6;
+    private int minFields = 1;
+    private int maxFields = 4;
+    private int minLocals = 1;
+    private int maxLocals = 5;
+    private int minStatements = 1;
+    private int maxStatements = 6;
+    private int nestingDepth = 2;
+    private double commentDensity = 0.1;
+    private int[] literalWeights = {4, 2, 1, 1};
+    private boolean declarationsOnly = false;
+
+    public static void main(String[] args) throws IOException {
+        CorpusGenerator generator = new CorpusGenerator();
+        String output = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-seed": generator.setSeed(Long.parseLong(args[++i])); break;
+                case "-size": generator.setTargetSize(parseSize(args[++i])); break;
+                case "-classes": generator.setClassCount(Integer.parseInt(args[++i])); break;
+                case "-interfaces": generator.setInterfaceCount(Integer.parseInt(args[++i])); break;
+                case "-methods": { int[] r = parseRange(args[++i]); generator.setMethodsPerClass(r[0], r[1]); break; }
+                case "-fields": { int[] r = parseRange(args[++i]); generator.setFieldsPerClass(r[0], r[1]); break; }
+                case "-locals": { int[] r = parseRange(args[++i]); generator.setLocalsPerMethod(r[0], r[1]); break; }
+                case "-statements": { int[] r = parseRange(args[++i]); generator.setStatementsPerMethod(r[0], r[1]); break; }
+                case "-depth": generator.setNestingDepth(Integer.parseInt(args[++i])); break;
+                case "-comments": generator.setCommentDensity(Double.parseDouble(args[++i])); break;
+                case "-literals": {
+                    String[] parts = args[++i].split(",");
+                    generator.setLiteralMix(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]),
+                        Integer.parseInt(parts[2]), Integer.parseInt(parts[3]));
+                    break;
+                }
+                case "-declarations-only": generator.setDeclarationsOnly(true); break;
+                case "-o": output = args[++i]; break;
+                default: throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        Writer writer = output != null
+            ? Files.newBufferedWriter(Paths.get(output), StandardCharsets.US_ASCII)
+            : new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.US_ASCII));
+        try {
+            generator.generate(writer);
+        } finally {
+            writer.flush();
+            if (output != null) {
+                writer.close();
+            }
+        }
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    // Output size in bytes to reach; 0 emits the configured counts exactly once.
+    public void setTargetSize(long targetSize) {
+        this.targetSize = targetSize;
+    }
+
+    public void setClassCount(int classCount) {
+        this.classCount = classCount;
+    }
+
+    public void setInterfaceCount(int interfaceCount) {
+        this.interfaceCount = interfaceCount;
+    }
+
+    public void setMethodsPerClass(int min, int max) {
+        this.minMethods = min;
+        this.maxMethods = max;
+    }
+
+    public void setFieldsPerClass(int min, int max) {
+        this.minFields = min;
+        this.maxFields = max;
+    }
+
+    public void setLocalsPerMethod(int min, int max) {
+        this.minLocals = min;
+        this.maxLocals = max;
+    }
+
+    // Statements other than local declarations, counted at the top level of a body.
+    public void setStatementsPerMethod(int min, int max) {
+        this.minStatements = min;
+        this.maxStatements = max;
+    }
+
+    // Deepest if/while/for block nesting inside a method body; 0 keeps bodies flat.
+    public void setNestingDepth(int nestingDepth) {
+        this.nestingDepth = nestingDepth;
+    }
+
+    // Chance of a comment before each member and statement.
+    public void setCommentDensity(double commentDensity) {
+        this.commentDensity = commentDensity;
+    }
+
+    // Relative weights of int, String, char and boolean in declarations, which decide
+    // the mix of literals in initializers and expressions.
+    public void setLiteralMix(int ints, int strings, int chars, int booleans) {
+        this.literalWeights = new int[] {ints, strings, chars, booleans};
+    }
+
+    public void setDeclarationsOnly(boolean declarationsOnly) {
+        this.declarationsOnly = declarationsOnly;
+    }
+
+    public String generate() {
+        StringBuilder out = new StringBuilder();
+        try {
+            generate(out);
+        } catch (IOException e) {
+            throw new AssertionError(e);
+        }
+        return out.toString();
+    }
+
+    // Writes the program and returns its length in bytes (all output is ASCII).
+    public long generate(Appendable out) throws IOException {
+        return new Emitter(new SplittableRandom(seed)).run(out);
+    }
+
+    static long parseSize(String size) {
+        String upper = size.toUpperCase();
+        long unit = 1;
+        if (upper.endsWith("GB")) {
+            unit = 1L << 30;
+        } else if (upper.endsWith("MB")) {
+            unit = 1L << 20;
+        } else if (upper.endsWith("KB")) {
+            unit = 1L << 10;
+        }
+        String digits = unit == 1 ? upper : upper.substring(0, upper.length() - 2);
+        return Long.parseLong(digits.trim()) * unit;
+    }
+
+    private static int[] parseRange(String range) {
+        int dash = range.indexOf('-');
+        if (dash < 0) {
+            int value = Integer.parseInt(range);
+            return new int[] {value, value};
+        }
+        return new int[] {Integer.parseInt(range.substring(0, dash)), Integer.parseInt(range.substring(dash + 1))};
+    }
+
+    private static final class Variable {
+        final String name;
+        final String type;
+        final boolean isStatic;
+
+        Variable(String name, String type, boolean isStatic) {
+            this.name = name;
+            this.type = type;
+            this.isStatic = isStatic;
+        }
+    }
+
+    private static final class Method {
+        final String name;
+        final String returnType;
+        final List<String> parameterTypes;
+        final boolean isStatic;
+
+        Method(String name, String returnType, List<String> parameterTypes, boolean isStatic) {
+            this.name = name;
+            this.returnType = returnType;
+            this.parameterTypes = parameterTypes;
+            this.isStatic = isStatic;
+        }
+    }
+
+    // State of one generate() call.
+    private final class Emitter {
+        final SplittableRandom random;
+        final StringBuilder text = new StringBuilder();
+        int indent;
+
+        int nextClass;
+        int nextInterface;
+        int nextMethod;
+        final List<String> classes = new ArrayList<>();
+        final List<List<Method>> interfaceMethods = new ArrayList<>();
+
+        // Current class and method.
+        List<Variable> fields;
+        List<Method> methods;
+        List<Variable> locals;
+        boolean staticContext;
+        int nextLocal;
+
+        Emitter(SplittableRandom random) {
+            this.random = random;
+        }
+
+        long run(Appendable out) throws IOException {
+            long written = 0;
+            int perRound = interfaceCount + classCount;
+            for (int i = 0; perRound > 0 && (targetSize > 0 ? written < targetSize : i < perRound); i++) {
+                if (i % perRound < interfaceCount) {
+                    emitInterface();
+                } else {
+                    emitClass(nextClass == 0);
+                }
+                written += flush(out);
+            }
+            return written;
+        }
+
+        private int flush(Appendable out) throws IOException {
+            int length = text.length();
+            out.append(text);
+            text.setLength(0);
+            return length;
+        }
+
+        private void emitInterface() {
+            String name = "I" + nextInterface++;
+            List<Method> signatures = new ArrayList<>();
+            maybeComment();
+            line("interface " + name + " {");
+            indent++;
+            if (random.nextInt(3) == 0) {
+                line("int " + name.toUpperCase() + "_LIMIT = " + intLiteral() + ";");
+            }
+            int count = between(1, Math.max(1, maxMethods / 2));
+            for (int i = 0; i < count; i++) {
+                Method method = new Method(methodName(), returnType(), parameterTypes(), false);
+                signatures.add(method);
+                maybeComment();
+                line(signature(method) + ";");
+            }
+            indent--;
+            line("}");
+            line("");
+            interfaceMethods.add(signatures);
+        }
+
+        private void emitClass(boolean withMain) {
+            String name = "C" + nextClass++;
+            fields = new ArrayList<>();
+            methods = new ArrayList<>();
+
+            StringBuilder header = new StringBuilder("class ").append(name);
+            List<Method> implemented = new ArrayList<>();
+            int choice = random.nextInt(4);
+            if (choice == 0 && !classes.isEmpty()) {
+                header.append(" extends ").append(classes.get(random.nextInt(classes.size())));
+            } else if (choice == 1 && !interfaceMethods.isEmpty()) {
+                header.append(" implements ");
+                int first = random.nextInt(interfaceMethods.size());
+                int count = Math.min(1 + random.nextInt(2), interfaceMethods.size() - first);
+                for (int i = 0; i < count; i++) {
+                    header.append(i > 0 ? ", " : "").append("I").append(first + i);
+                    implemented.addAll(interfaceMethods.get(first + i));
+                }
+            }
+
+            maybeComment();
+            line(header + " {");
+            indent++;
+
+            int fieldCount = between(minFields, maxFields);
+            for (int i = 0; i < fieldCount; i++) {
+                boolean isStatic = random.nextInt(5) == 0;
+                String type = variableType();
+                String fieldName = FIELD_STEMS[random.nextInt(FIELD_STEMS.length)] + i;
+                maybeComment();
+                line(access() + (isStatic ? "static " : "") + type + " " + fieldName + ";");
+                fields.add(new Variable(fieldName, type, isStatic));
+            }
+
+            if (withMain) {
+                emitBody("public static void main(String[] args)", "void", new ArrayList<>(), true);
+            }
+
+            if (random.nextInt(3) == 0) {
+                emitBody("public " + name + "()", "void", new ArrayList<>(), false);
+            }
+
+            for (Method method : implemented) {
+                emitMethod(method, "public ");
+            }
+
+            int methodCount = between(minMethods, maxMethods);
+            for (int i = 0; i < methodCount; i++) {
+                Method method = new Method(methodName(), returnType(), parameterTypes(), random.nextInt(6) == 0);
+                emitMethod(method, access() + (method.isStatic ? "static " : ""));
+            }
+
+            indent--;
+            line("}");
+            line("");
+            classes.add(name);
+        }
+
+        private void emitMethod(Method method, String modifiers) {
+            List<Variable> parameters = new ArrayList<>();
+            StringBuilder head = new StringBuilder(modifiers).append(method.returnType).append(' ')
+                .append(method.name).append('(');
+            for (int i = 0; i < method.parameterTypes.size(); i++) {
+                String parameter = "p" + i;
+                head.append(i > 0 ? ", " : "").append(method.parameterTypes.get(i)).append(' ').append(parameter);
+                parameters.add(new Variable(parameter, method.parameterTypes.get(i), method.isStatic));
+            }
+            head.append(')');
+            emitBody(head.toString(), method.returnType, parameters, method.isStatic);
+            methods.add(method);
+        }
+
+        private void emitBody(String head, String returnType, List<Variable> parameters, boolean isStatic) {
+            locals = new ArrayList<>(parameters);
+            staticContext = isStatic;
+            nextLocal = 0;
+
+            maybeComment();
+            line(head + " {");
+            indent++;
+
+            int declarations = between(minLocals, maxLocals);
+            int statements = declarationsOnly ? 0 : between(minStatements, maxStatements);
+            while (declarations + statements > 0) {
+                if (random.nextInt(declarations + statements) < declarations) {
+                    declareLocal();
+                    declarations--;
+                } else {
+                    statement(nestingDepth);
+                    statements--;
+                }
+            }
+
+            if (!returnType.equals("void")) {
+                line("return " + (declarationsOnly ? literal(returnType) : expression(returnType, 2)) + ";");
+            }
+
+            indent--;
+            line("}");
+        }
+
+        private void declareLocal() {
+            String type = random.nextInt(8) == 0 ? "int[]" : variableType();
+            if (random.nextInt(10) == 0 && !classes.isEmpty()) {
+                type = classes.get(random.nextInt(classes.size()));
+            }
+            String name = "v" + nextLocal++;
+            maybeComment();
+            line(type + " " + name + " = " + expression(type, 2) + ";");
+            locals.add(new Variable(name, type, staticContext));
+        }
+
+        private void statement(int depth) {
+            maybeComment();
+            int kind = random.nextInt(depth > 0 ? 7 : 4);
+            switch (kind) {
+                case 0:
+                case 1: {
+                    Variable target = pick(visible(null));
+                    if (target != null && !target.type.equals("int[]")) {
+                        line(target.name + " = " + expression(target.type, 2) + ";");
+                        return;
+                    }
+                    break;
+                }
+                case 2: {
+                    Method method = pickMethod(null);
+                    if (method != null) {
+                        line(call(method) + ";");
+                        return;
+                    }
+                    break;
+                }
+                case 4: {
+                    line("if (" + expression("boolean", 2) + ") {");
+                    block(depth - 1);
+                    if (random.nextBoolean()) {
+                        line("} else {");
+                        block(depth - 1);
+                    }
+                    line("}");
+                    return;
+                }
+                case 5: {
+                    line("while (" + expression("boolean", 2) + ") {");
+                    block(depth - 1);
+                    line("}");
+                    return;
+                }
+                case 6: {
+                    String counter = "v" + nextLocal++;
+                    line("for (int " + counter + " = 0; " + counter + " < " + intLiteral() + "; "
+                        + counter + " = " + counter + " + 1) {");
+                    int scope = locals.size();
+                    locals.add(new Variable(counter, "int", staticContext));
+                    block(depth - 1);
+                    locals.subList(scope, locals.size()).clear();
+                    line("}");
+                    return;
+                }
+                default:
+                    break;
+            }
+            line("print(" + expression(variableType(), 2) + ");");
+        }
+
+        private void block(int depth) {
+            int scope = locals.size();
+            indent++;
+            int count = between(1, 3);
+            for (int i = 0; i < count; i++) {
+                if (random.nextInt(3) == 0) {
+                    declareLocal();
+                } else {
+                    statement(depth);
+                }
+            }
+            indent--;
+            locals.subList(scope, locals.size()).clear();
+        }
+
+        private String expression(String type, int depth) {
+            int choice = random.nextInt(depth > 0 ? 6 : 3);
+            if (choice == 1 || choice == 2) {
+                Variable variable = pick(visible(type));
+                if (variable != null) {
+                    return variable.name;
+                }
+            }
+
+            switch (type) {
+                case "int":
+                    if (choice == 3) {
+                        String[] operators = {" + ", " - ", " * ", " / ", " % ", " ** "};
+                        return expression("int", depth - 1) + operators[random.nextInt(operators.length)]
+                            + expression("int", depth - 1);
+                    }
+                    if (choice == 4) {
+                        Variable array = pick(visible("int[]"));
+                        if (array != null) {
+                            return array.name + ".length";
+                        }
+                        Method method = pickMethod("int");
+                        if (method != null) {
+                            return call(method);
+                        }
+                    }
+                    if (choice == 5) {
+                        return "(" + expression("int", depth - 1) + ")";
+                    }
+                    break;
+                case "boolean":
+                    if (choice >= 3) {
+                        String[] comparisons = {" < ", " <= ", " > ", " >= ", " == ", " != "};
+                        String[] logical = {" && ", " || "};
+                        if (choice == 5) {
+                            return expression("boolean", depth - 1) + logical[random.nextInt(2)]
+                                + expression("boolean", depth - 1);
+                        }
+                        if (choice == 4 && random.nextBoolean()) {
+                            return "!" + expression("boolean", 0);
+                        }
+                        return expression("int", depth - 1) + comparisons[random.nextInt(comparisons.length)]
+                            + expression("int", depth - 1);
+                    }
+                    break;
+                case "int[]":
+                    return "new int[" + expression("int", 0) + "]";
+                default:
+                    break;
+            }
+            return literal(type);
+        }
+
+        private String literal(String type) {
+            switch (type) {
+                case "int": return intLiteral();
+                case "boolean": return random.nextBoolean() ? "true" : "false";
+                case "char": return charLiteral();
+                case "String": return stringLiteral();
+                case "int[]": return "new int[" + intLiteral() + "]";
+                default: return random.nextBoolean() ? "null" : "new " + type + "()";
+            }
+        }
+
+        private String intLiteral() {
+            switch (random.nextInt(6)) {
+                case 0: return "0";
+                case 1: return String.valueOf(1 + random.nextInt(9));
+                case 2: return "1_000";
+                default: return String.valueOf(1 + random.nextInt(1000));
+            }
+        }
+
+        private String charLiteral() {
+            switch (random.nextInt(8)) {
+                case 0: return "'\\n'";
+                case 1: return "'\\''";
+                default: return "'" + (char) ('a' + random.nextInt(26)) + "'";
+            }
+        }
+
+        private String stringLiteral() {
+            StringBuilder value = new StringBuilder("\"");
+            int words = random.nextInt(5);
+            for (int i = 0; i < words; i++) {
+                value.append(i > 0 ? " " : "").append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            if (random.nextInt(6) == 0) {
+                value.append("\\n");
+            }
+            return value.append('"').toString();
+        }
+
+        private String call(Method method) {
+            StringBuilder call = new StringBuilder(method.name).append('(');
+            for (int i = 0; i < method.parameterTypes.size(); i++) {
+                call.append(i > 0 ? ", " : "").append(expression(method.parameterTypes.get(i), 0));
+            }
+            return call.append(')').toString();
+        }
+
+        // Variables usable here, optionally of one type.
+        private List<Variable> visible(String type) {
+            List<Variable> result = new ArrayList<>();
+            for (Variable local : locals) {
+                if (type == null || local.type.equals(type)) {
+                    result.add(local);
+                }
+            }
+            for (Variable field : fields) {
+                if ((type == null || field.type.equals(type)) && (field.isStatic || !staticContext)) {
+                    result.add(field);
+                }
+            }
+            return result;
+        }
+
+        private Method pickMethod(String returnType) {
+            List<Method> candidates = new ArrayList<>();
+            for (Method method : methods) {
+                if ((returnType == null || method.returnType.equals(returnType)) && (method.isStatic || !staticContext)) {
+                    candidates.add(method);
+                }
+            }
+            return candidates.isEmpty() ? null : candidates.get(random.nextInt(candidates.size()));
+        }
+
+        private <T> T pick(List<T> values) {
+            return values.isEmpty() ? null : values.get(random.nextInt(values.size()));
+        }
+
+        private String signature(Method method) {
+            StringBuilder signature = new StringBuilder(method.returnType).append(' ').append(method.name).append('(');
+            for (int i = 0; i < method.parameterTypes.size(); i++) {
+                signature.append(i > 0 ? ", " : "").append(method.parameterTypes.get(i)).append(" p").append(i);
+            }
+            return signature.append(')').toString();
+        }
+
+        private String methodName() {
+            return METHOD_STEMS[random.nextInt(METHOD_STEMS.length)] + nextMethod++;
+        }
+
+        private String returnType() {
+            return random.nextInt(4) == 0 ? "void" : variableType();
+        }
+
+        private List<String> parameterTypes() {
+            List<String> types = new ArrayList<>();
+            int count = random.nextInt(4);
+            for (int i = 0; i < count; i++) {
+                types.add(random.nextInt(8) == 0 ? "int[]" : variableType());
+            }
+            return types;
+        }
+
+        private String variableType() {
+            int total = 0;
+            for (int weight : literalWeights) {
+                total += weight;
+            }
+            int roll = random.nextInt(Math.max(1, total));
+            for (int i = 0; i < TYPES.length; i++) {
+                roll -= literalWeights[i];
+                if (roll < 0) {
+                    return TYPES[i];
+                }
+            }
+            return TYPES[0];
+        }
+
+        private String access() {
+            switch (random.nextInt(4)) {
+                case 0: return "public ";
+                case 1: return "private ";
+                case 2: return "protected ";
+                default: return "";
+            }
+        }
+
+        private int between(int min, int max) {
+            return max <= min ? min : min + random.nextInt(max - min + 1);
+        }
+
+        private void maybeComment() {
+            if (random.nextDouble() >= commentDensity) {
+                return;
+            }
+            StringBuilder words = new StringBuilder();
+            int count = 2 + random.nextInt(8);
+            for (int i = 0; i < count; i++) {
+                words.append(i > 0 ? " " : "").append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            if (random.nextInt(3) == 0) {
+                line("/* " + words);
+                line("   " + WORDS[random.nextInt(WORDS.length)] + " */");
+            } else {
+                line("// " + words);
+            }
+        }
+
+        private void line(String content) {
+            if (!content.isEmpty()) {
+                for (int i = 0; i < indent; i++) {
+                    text.append("    ");
+                }
+            }
+            text.append(content).append('\n');
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.regex.Pattern;
+
+// Minimal JMH-style runner: warmup and measurement iterations of fixed duration, each
+// benchmark in a fresh JVM by default, throughput in ops/s and, with -prof gc, bytes
+// allocated per operation and collector activity.
+//
+// Options: -wi <warmup iterations> -i <iterations> -t <seconds per iteration>
+//          -f <forks, 0 = in this JVM> -prof gc -l (list) [regex filter]
+public final class Harness {
+    private static final String RESULT_PREFIX = "#result ";
+
+    private final Class<?> mainClass;
+    private final Map<String, Callable<Benchmark>> benchmarks = new LinkedHashMap<>();
+
+    private int warmupIterations = 3;
+    private int iterations = 5;
+    private double iterationSeconds = 1.0;
+    private int forks = 1;
+    private boolean profileGc = false;
+    private boolean list = false;
+    private Pattern filter = Pattern.compile(".*");
+    private String exact;
+
+    private static volatile Object blackhole;
+
+    // One operation of a benchmark. State is set up by the factory passed to
+    // register(), which is not measured.
+    public interface Benchmark {
+        Object run() throws Exception;
+    }
+
+    // mainClass is started in forked JVMs with the same options and -f 0.
+    public Harness(Class<?> mainClass) {
+        this.mainClass = mainClass;
+    }
+
+    public void register(String name, Callable<Benchmark> setup) {
+        benchmarks.put(name, setup);
+    }
+
+    public void run(String[] args) throws Exception {
+        parseArgs(args);
+
+        List<String> selected = new ArrayList<>();
+        for (String name : benchmarks.keySet()) {
+            if (exact != null ? name.equals(exact) : filter.matcher(name).find()) {
+                selected.add(name);
+            }
+        }
+
+        if (list) {
+            for (String name : selected) {
+                System.out.println(name);
+            }
+            return;
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (String name : selected) {
+            if (forks == 0) {
+                Result result = measure(name);
+                results.add(result);
+                if (exact != null) {
+                    System.out.println(RESULT_PREFIX + result.serialize());
+                }
+            } else {
+                Result merged = null;
+                for (int f = 0; f < forks; f++) {
+                    System.out.println("# Fork " + (f + 1) + " of " + forks + ": " + name);
+                    Result result = fork(name);
+                    merged = merged == null ? result : merged.merge(result);
+                }
+                results.add(merged);
+            }
+        }
+
+        if (exact == null) {
+            printSummary(results);
+        }
+    }
+
+    private void parseArgs(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-wi": warmupIterations = Integer.parseInt(args[++i]); break;
+                case "-i": iterations = Integer.parseInt(args[++i]); break;
+                case "-t": iterationSeconds = Double.parseDouble(args[++i]); break;
+                case "-f": forks = Integer.parseInt(args[++i]); break;
+                case "-l": list = true; break;
+                case "-exact": exact = args[++i]; break;
+                case "-prof":
+                    String profiler = args[++i];
+                    if (!profiler.equals("gc")) {
+                        throw new IllegalArgumentException("Unknown profiler: " + profiler);
+                    }
+                    profileGc = true;
+                    break;
+                default:
+                    if (args[i].startsWith("-")) {
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                    }
+                    filter = Pattern.compile(args[i]);
+            }
+        }
+    }
+
+    private Result fork(String name) throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(mainClass.getName());
+        command.add("-wi");
+        command.add(String.valueOf(warmupIterations));
+        command.add("-i");
+        command.add(String.valueOf(iterations));
+        command.add("-t");
+        command.add(String.valueOf(iterationSeconds));
+        command.add("-f");
+        command.add("0");
+        if (profileGc) {
+            command.add("-prof");
+            command.add("gc");
+        }
+        command.add("-exact");
+        command.add(name);
+
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        Result result = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    result = Result.parse(line.substring(RESULT_PREFIX.length()));
+                } else {
+                    System.out.println(line);
+                }
+            }
+        }
+        if (process.waitFor() != 0 || result == null) {
+            throw new IllegalStateException("Benchmark " + name + " failed in forked JVM");
+        }
+        return result;
+    }
+
+    private Result measure(String name) throws Exception {
+        Benchmark benchmark = benchmarks.get(name).call();
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        Result result = new Result(name);
+        for (int i = 0; i < warmupIterations + iterations; i++) {
+            boolean warmup = i < warmupIterations;
+            long gcCount = gcCount();
+            long gcTime = gcTime();
+            long allocated = threads.getThreadAllocatedBytes(thread);
+
+            long ops = 0;
+            long batch = 1;
+            long deadline = (long) (iterationSeconds * 1e9);
+            long start = System.nanoTime();
+            long elapsed;
+            do {
+                for (long b = 0; b < batch; b++) {
+                    blackhole = benchmark.run();
+                }
+                ops += batch;
+                elapsed = System.nanoTime() - start;
+                if (elapsed < deadline / 100) {
+                    batch *= 2;
+                }
+            } while (elapsed < deadline);
+
+            double throughput = ops / (elapsed / 1e9);
+            double bytesPerOp = (threads.getThreadAllocatedBytes(thread) - allocated) / (double) ops;
+            long collections = gcCount() - gcCount;
+            long collectionMillis = gcTime() - gcTime;
+
+            String label = warmup ? "# Warmup Iteration " + (i + 1) : "Iteration " + (i - warmupIterations + 1);
+            StringBuilder line = new StringBuilder(String.format("%-22s %,14.3f ops/s", label + ":", throughput));
+            if (profileGc) {
+                line.append(String.format("  %,12.1f B/op  %d gc  %d ms", bytesPerOp, collections, collectionMillis));
+            }
+            System.out.println(line);
+
+            if (!warmup) {
+                result.add(throughput, bytesPerOp, collections, collectionMillis);
+            }
+        }
+        return result;
+    }
+
+    private void printSummary(List<Result> results) {
+        System.out.println();
+        System.out.println(String.format("%-50s %5s %5s %16s    %12s  %s",
+            "Benchmark", "Mode", "Cnt", "Score", "StdDev", "Units"));
+        for (Result result : results) {
+            System.out.println(String.format("%-50s %5s %5d %,16.3f +- %,12.3f  %s",
+                result.name, "thrpt", result.throughput.size(),
+                mean(result.throughput), stdDev(result.throughput), "ops/s"));
+            if (profileGc) {
+                System.out.println(String.format("%-50s %5s %5d %,16.3f +- %,12.3f  %s",
+                    result.name + ":gc.alloc.rate.norm", "thrpt", result.bytesPerOp.size(),
+                    mean(result.bytesPerOp), stdDev(result.bytesPerOp), "B/op"));
+                System.out.println(String.format("%-50s %5s %5d %16d %14s  %s",
+                    result.name + ":gc.count", "thrpt", result.bytesPerOp.size(),
+                    result.collections, "", "counts"));
+                System.out.println(String.format("%-50s %5s %5d %16d %14s  %s",
+                    result.name + ":gc.time", "thrpt", result.bytesPerOp.size(),
+                    result.collectionMillis, "", "ms"));
+            }
+        }
+    }
+
+    private static long gcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+
+    private static long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return time;
+    }
+
+    private static double mean(List<Double> values) {
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        return values.isEmpty() ? 0 : sum / values.size();
+    }
+
+    private static double stdDev(List<Double> values) {
+        if (values.size() < 2) {
+            return 0;
+        }
+        double mean = mean(values);
+        double sum = 0;
+        for (double value : values) {
+            sum += (value - mean) * (value - mean);
+        }
+        return Math.sqrt(sum / (values.size() - 1));
+    }
+
+    private static final class Result {
+        final String name;
+        final List<Double> throughput = new ArrayList<>();
+        final List<Double> bytesPerOp = new ArrayList<>();
+        long collections;
+        long collectionMillis;
+
+        Result(String name) {
+            this.name = name;
+        }
+
+        void add(double opsPerSecond, double bytes, long gcCount, long gcMillis) {
+            throughput.add(opsPerSecond);
+            bytesPerOp.add(bytes);
+            collections += gcCount;
+            collectionMillis += gcMillis;
+        }
+
+        Result merge(Result other) {
+            throughput.addAll(other.throughput);
+            bytesPerOp.addAll(other.bytesPerOp);
+            collections += other.collections;
+            collectionMillis += other.collectionMillis;
+            return this;
+        }
+
+        String serialize() {
+            StringBuilder out = new StringBuilder(name).append(' ')
+                .append(collections).append(' ').append(collectionMillis);
+            for (int i = 0; i < throughput.size(); i++) {
+                out.append(' ').append(throughput.get(i)).append(' ').append(bytesPerOp.get(i));
+            }
+            return out.toString();
+        }
+
+        static Result parse(String line) {
+            String[] parts = line.split(" ");
+            Result result = new Result(parts[0]);
+            result.collections = Long.parseLong(parts[1]);
+            result.collectionMillis = Long.parseLong(parts[2]);
+            for (int i = 3; i + 1 < parts.length; i += 2) {
+                result.throughput.add(Double.parseDouble(parts[i]));
+                result.bytesPerOp.add(Double.parseDouble(parts[i + 1]));
+            }
+            return result;
+        }
+    }
+}
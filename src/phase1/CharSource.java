@@ -0,0 +1,25 @@
+package phase1;
+
+interface CharSource {
+    // True if a character exists at the absolute index, reading more input if needed.
+    boolean has(int index);
+
+    char charAt(int index);
+
+    // Total length, or -1 while it is not yet known.
+    int length();
+
+    String text(int start, int end);
+
+    // Characters before index will not be requested again and may be discarded.
+    void release(int index);
+
+    // False if released characters are really dropped, so tokens must resolve their
+    // text and position eagerly.
+    boolean retainsInput();
+
+    // 1-based line and column of a character position.
+    int lineOf(int index);
+
+    int columnOf(int index);
+}
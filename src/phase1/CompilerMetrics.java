@@ -0,0 +1,75 @@
+package phase1;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Process-wide counters that are always on. Lexers count tokens in a plain array while
+// scanning and add them here once per input, so the scanning loop never touches an adder.
+// Errors are ERROR tokens plus failures reported by later phases.
+public final class CompilerMetrics {
+    private static final TokenType[] TYPES = TokenType.values();
+    private static final LongAdder[] TOKENS = new LongAdder[TYPES.length];
+    private static final LongAdder ERRORS = new LongAdder();
+
+    static {
+        for (int i = 0; i < TOKENS.length; i++) {
+            TOKENS[i] = new LongAdder();
+        }
+    }
+
+    private CompilerMetrics() {
+    }
+
+    public static long getTokenCount(TokenType type) {
+        return TOKENS[type.ordinal()].sum();
+    }
+
+    public static long getTokenCount() {
+        long total = 0;
+        for (LongAdder count : TOKENS) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    // Types that have been seen at least once, in declaration order.
+    public static Map<TokenType, Long> getTokenCounts() {
+        Map<TokenType, Long> counts = new EnumMap<>(TokenType.class);
+        for (TokenType type : TYPES) {
+            long count = TOKENS[type.ordinal()].sum();
+            if (count > 0) {
+                counts.put(type, count);
+            }
+        }
+        return counts;
+    }
+
+    public static long getErrorCount() {
+        return ERRORS.sum();
+    }
+
+    public static void recordError() {
+        ERRORS.increment();
+    }
+
+    public static void reset() {
+        for (LongAdder count : TOKENS) {
+            count.reset();
+        }
+        ERRORS.reset();
+    }
+
+    // counts is indexed by TokenType ordinal and cleared once added.
+    static void recordTokens(int[] counts) {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                TOKENS[i].add(counts[i]);
+                if (TYPES[i] == TokenType.ERROR) {
+                    ERRORS.add(counts[i]);
+                }
+                counts[i] = 0;
+            }
+        }
+    }
+}
@@ -1,13 +1,17 @@
 package phase1;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.Map;
 
 public class DFABuilder {
     private Map<String, TokenType> keywords;
+    private Map<String, TokenType> operators;
+    private Map<TokenType, String> spellings;
     
     public DFABuilder() {
         initializeKeywords();
+        initializeOperators();
     }
 
     private void initializeKeywords() {
@@ -45,106 +49,72 @@ public class DFABuilder {
         keywords.put("print", TokenType.PRINT);
     }
 
-    public DFAState buildIdentifierDFA() {
-        DFAState start = new DFAState(0);
-        DFAState accepting = new DFAState(1, true, TokenType.IDENTIFIER);
-
-        start.addRangeTransition('a', 'z', accepting);
-        start.addRangeTransition('A', 'Z', accepting);
-        start.addTransition('$', accepting);
-        start.addTransition('_', accepting);
-
-        accepting.addRangeTransition('a', 'z', accepting);
-        accepting.addRangeTransition('A', 'Z', accepting);
-        accepting.addRangeTransition('0', '9', accepting);
-        accepting.addTransition('$', accepting);
-        accepting.addTransition('_', accepting);
-
-        return start;
-    }
-
-    public DFAState buildIntegerDFA() {
-        DFAState start = new DFAState(0);
-        DFAState zero = new DFAState(1, true, TokenType.INTEGER_LITERAL);
-        DFAState nonZero = new DFAState(2, true, TokenType.INTEGER_LITERAL);
-        DFAState digit = new DFAState(3, true, TokenType.INTEGER_LITERAL);
-        DFAState suffix = new DFAState(4, true, TokenType.INTEGER_LITERAL);
-
-        start.addTransition('0', zero);
-        
-        start.addRangeTransition('1', '9', nonZero);
-        
-        nonZero.addRangeTransition('0', '9', digit);
-        nonZero.addTransition('_', digit);
-        
-        digit.addRangeTransition('0', '9', digit);
-        digit.addTransition('_', digit);
-        
-        zero.addTransition('l', suffix);
-        zero.addTransition('L', suffix);
-        nonZero.addTransition('l', suffix);
-        nonZero.addTransition('L', suffix);
-        digit.addTransition('l', suffix);
-        digit.addTransition('L', suffix);
-
-        return start;
-    }
-
-    public DFAState buildStringDFA() {
-        DFAState start = new DFAState(0);
-        DFAState inString = new DFAState(1);
-        DFAState escaped = new DFAState(2);
-        DFAState accepting = new DFAState(3, true, TokenType.STRING_LITERAL);
-
-        start.addTransition('"', inString);
-        
-        for (char c = 0; c < 128; c++) {
-            if (c != '"' && c != '\\') {
-                inString.addTransition(c, inString);
-            }
+    private void initializeOperators() {
+        operators = new HashMap<>();
+        operators.put("&&", TokenType.AND);
+        operators.put("||", TokenType.OR);
+        operators.put("<", TokenType.LT);
+        operators.put("<=", TokenType.LE);
+        operators.put(">", TokenType.GT);
+        operators.put(">=", TokenType.GE);
+        operators.put("==", TokenType.EQEQ);
+        operators.put("!=", TokenType.NEQ);
+        operators.put("+", TokenType.PLUS);
+        operators.put("-", TokenType.MINUS);
+        operators.put("*", TokenType.TIMES);
+        operators.put("/", TokenType.DIV);
+        operators.put("%", TokenType.MOD);
+        operators.put("**", TokenType.POWER);
+        operators.put("!", TokenType.NOT);
+        operators.put("=", TokenType.EQ);
+        operators.put("(", TokenType.LPAREN);
+        operators.put(")", TokenType.RPAREN);
+        operators.put("{", TokenType.LBRACE);
+        operators.put("}", TokenType.RBRACE);
+        operators.put("[", TokenType.LBRACKET);
+        operators.put("]", TokenType.RBRACKET);
+        operators.put(";", TokenType.SEMICOLON);
+        operators.put(",", TokenType.COMMA);
+        operators.put(".", TokenType.DOT);
+        operators.put(".length", TokenType.DOTLENGTH);
+
+        spellings = new EnumMap<>(TokenType.class);
+        for (Map.Entry<String, TokenType> entry : keywords.entrySet()) {
+            spellings.put(entry.getValue(), entry.getKey());
         }
-        
-        inString.addTransition('\\', escaped);
-        
-        for (char c = 0; c < 128; c++) {
-            escaped.addTransition(c, inString);
+        for (Map.Entry<String, TokenType> entry : operators.entrySet()) {
+            spellings.put(entry.getValue(), entry.getKey());
         }
-        
-        inString.addTransition('"', accepting);
-
-        return start;
     }
 
-    public DFAState buildCharDFA() {
-        DFAState start = new DFAState(0);
-        DFAState afterQuote = new DFAState(1);
-        DFAState escaped = new DFAState(2);
-        DFAState hasChar = new DFAState(3);
-        DFAState accepting = new DFAState(4, true, TokenType.CHAR_LITERAL);
-
-        start.addTransition('\'', afterQuote);
-        
-        for (char c = 0; c < 128; c++) {
-            if (c != '\'' && c != '\\' && c != '\r' && c != '\n') {
-                afterQuote.addTransition(c, hasChar);
-            }
+    // Token rules for LexerGenerator, highest priority first. Keywords precede
+    // IDENTIFIER so an exact keyword wins the tie. The ERROR rules match unterminated
+    // literal prefixes, so a broken literal is reported as one token up to the point
+    // where it can no longer continue.
+    void defineTokens(LexerGenerator generator) {
+        for (Map.Entry<String, TokenType> entry : keywords.entrySet()) {
+            generator.addLiteral(entry.getKey(), entry.getValue());
         }
-        
-        afterQuote.addTransition('\\', escaped);
-        
-        for (char c = 0; c < 128; c++) {
-            escaped.addTransition(c, hasChar);
+        for (Map.Entry<String, TokenType> entry : operators.entrySet()) {
+            generator.addLiteral(entry.getKey(), entry.getValue());
         }
-        
-        hasChar.addTransition('\'', accepting);
-
-        return start;
+        generator.addPattern("[a-zA-Z$_][a-zA-Z0-9$_]*", TokenType.IDENTIFIER);
+        generator.addPattern("(0|[1-9][0-9_]*)[lL]?", TokenType.INTEGER_LITERAL);
+        generator.addPattern("\"([^\"\\\\]|\\\\.)*\"", TokenType.STRING_LITERAL);
+        generator.addPattern("'([^'\\\\\\r\\n]|\\\\.)'", TokenType.CHAR_LITERAL);
+        generator.addPattern("\"([^\"\\\\]|\\\\.)*\\\\?", TokenType.ERROR);
+        generator.addPattern("'([^'\\\\\\r\\n]|\\\\.?)?", TokenType.ERROR);
     }
 
     public TokenType getKeywordType(String identifier) {
         return keywords.getOrDefault(identifier, TokenType.IDENTIFIER);
     }
 
+    // Fixed spelling of a keyword, operator or delimiter; null for other token types.
+    String getSpelling(TokenType type) {
+        return spellings.get(type);
+    }
+
     public boolean isKeyword(String identifier) {
         return keywords.containsKey(identifier);
     }
@@ -0,0 +1,62 @@
+package phase1;
+
+import java.util.Arrays;
+
+public final class DFATable {
+    public static final int DEAD = -1;
+
+    private static final int ASCII_SIZE = 128;
+
+    private final int[] asciiClasses;
+    private final int nonAsciiClass;
+    private final int[][] transitions;
+    private final TokenType[] acceptTypes;
+
+    DFATable(int[] asciiClasses, int nonAsciiClass, int[][] transitions, TokenType[] acceptTypes) {
+        this.asciiClasses = asciiClasses;
+        this.nonAsciiClass = nonAsciiClass;
+        this.transitions = transitions;
+        this.acceptTypes = acceptTypes;
+    }
+
+    public int start() {
+        return 0;
+    }
+
+    public int next(int state, char c) {
+        return transitions[state][c < ASCII_SIZE ? asciiClasses[c] : nonAsciiClass];
+    }
+
+    public boolean isAccepting(int state) {
+        return acceptTypes[state] != null;
+    }
+
+    public TokenType getTokenType(int state) {
+        return acceptTypes[state];
+    }
+
+    public int getStateCount() {
+        return transitions.length;
+    }
+
+    public int getClassCount() {
+        return transitions.length == 0 ? 0 : transitions[0].length;
+    }
+
+    // Changes whenever the generated rules change; keys caches of scanner output.
+    int fingerprint() {
+        int hash = Arrays.deepHashCode(transitions);
+        hash = 31 * hash + Arrays.hashCode(asciiClasses);
+        hash = 31 * hash + nonAsciiClass;
+        for (TokenType type : acceptTypes) {
+            hash = 31 * hash + (type == null ? 0 : type.name().hashCode());
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "DFATable(states=" + getStateCount() + ", classes=" + getClassCount()
+            + ", accepting=" + Arrays.toString(acceptTypes) + ")";
+    }
+}
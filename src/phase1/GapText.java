@@ -0,0 +1,169 @@
+package phase1;
+
+import java.util.Arrays;
+
+// Editable text stored as a gap buffer, so edits near the previous edit only move
+// the characters between the two positions. Newline positions are kept in a second
+// gap buffer; entries after its gap are stored relative to the end of the text, so
+// an edit only touches the newlines it removes or inserts.
+final class GapText implements CharSource {
+    private char[] buffer;
+    private int gapStart;
+    private int gapEnd;
+
+    private int[] newlines;
+    private int newlineGapStart;
+    private int newlineGapEnd;
+
+    GapText(String text) {
+        buffer = new char[text.length() + 64];
+        text.getChars(0, text.length(), buffer, 0);
+        gapStart = text.length();
+        gapEnd = buffer.length;
+
+        newlines = new int[64];
+        newlineGapStart = 0;
+        newlineGapEnd = newlines.length;
+        insertNewlines(0, text);
+    }
+
+    @Override
+    public int length() {
+        return buffer.length - (gapEnd - gapStart);
+    }
+
+    @Override
+    public boolean has(int index) {
+        return index < length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return index < gapStart ? buffer[index] : buffer[index + gapEnd - gapStart];
+    }
+
+    @Override
+    public String text(int start, int end) {
+        if (end <= gapStart) {
+            return new String(buffer, start, end - start);
+        }
+        int gap = gapEnd - gapStart;
+        if (start >= gapStart) {
+            return new String(buffer, start + gap, end - start);
+        }
+        char[] chars = new char[end - start];
+        System.arraycopy(buffer, start, chars, 0, gapStart - start);
+        System.arraycopy(buffer, gapEnd, chars, gapStart - start, end - gapStart);
+        return new String(chars);
+    }
+
+    @Override
+    public void release(int index) {
+    }
+
+    @Override
+    public boolean retainsInput() {
+        return true;
+    }
+
+    @Override
+    public int lineOf(int index) {
+        return newlinesBefore(index) + 1;
+    }
+
+    @Override
+    public int columnOf(int index) {
+        int before = newlinesBefore(index);
+        return before > 0 ? index - newlineAt(before - 1) : index + 1;
+    }
+
+    void replace(int offset, int removedLength, String inserted) {
+        int length = length();
+        moveNewlineGap(offset, length);
+        while (newlineGapEnd < newlines.length && length - newlines[newlineGapEnd] < offset + removedLength) {
+            newlineGapEnd++;
+        }
+        insertNewlines(offset, inserted);
+
+        moveGap(offset);
+        gapEnd += removedLength;
+
+        if (inserted.length() > gapEnd - gapStart) {
+            int tail = buffer.length - gapEnd;
+            int capacity = Math.max(buffer.length * 2, length() + inserted.length() + 64);
+            char[] grown = Arrays.copyOf(buffer, capacity);
+            System.arraycopy(buffer, gapEnd, grown, capacity - tail, tail);
+            buffer = grown;
+            gapEnd = capacity - tail;
+        }
+
+        inserted.getChars(0, inserted.length(), buffer, gapStart);
+        gapStart += inserted.length();
+    }
+
+    @Override
+    public String toString() {
+        return text(0, length());
+    }
+
+    private int newlineCount() {
+        return newlineGapStart + (newlines.length - newlineGapEnd);
+    }
+
+    private int newlineAt(int k) {
+        if (k < newlineGapStart) {
+            return newlines[k];
+        }
+        return length() - newlines[k - newlineGapStart + newlineGapEnd];
+    }
+
+    private int newlinesBefore(int index) {
+        int lo = 0;
+        int hi = newlineCount();
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (newlineAt(mid) < index) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private void moveNewlineGap(int offset, int length) {
+        while (newlineGapStart > 0 && newlines[newlineGapStart - 1] >= offset) {
+            newlines[--newlineGapEnd] = length - newlines[--newlineGapStart];
+        }
+        while (newlineGapEnd < newlines.length && length - newlines[newlineGapEnd] < offset) {
+            newlines[newlineGapStart++] = length - newlines[newlineGapEnd++];
+        }
+    }
+
+    private void insertNewlines(int offset, String text) {
+        for (int i = text.indexOf('\n'); i >= 0; i = text.indexOf('\n', i + 1)) {
+            if (newlineGapStart == newlineGapEnd) {
+                int tail = newlines.length - newlineGapEnd;
+                int[] grown = Arrays.copyOf(newlines, newlines.length * 2);
+                System.arraycopy(newlines, newlineGapEnd, grown, grown.length - tail, tail);
+                newlines = grown;
+                newlineGapEnd = grown.length - tail;
+            }
+            newlines[newlineGapStart++] = offset + i;
+        }
+    }
+
+    private void moveGap(int offset) {
+        if (offset < gapStart) {
+            int count = gapStart - offset;
+            System.arraycopy(buffer, offset, buffer, gapEnd - count, count);
+            gapStart -= count;
+            gapEnd -= count;
+        } else if (offset > gapStart) {
+            int count = offset - gapStart;
+            System.arraycopy(buffer, gapEnd, buffer, gapStart, count);
+            gapStart += count;
+            gapEnd += count;
+        }
+    }
+}
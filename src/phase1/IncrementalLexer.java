@@ -0,0 +1,187 @@
+package phase1;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+// Keeps a document and its tokens up to date across edits. Tokens are stored in a gap
+// buffer: tokens before the gap hold absolute offsets, tokens after it hold them
+// relative to the end of the document, so an edit never touches the tokens that
+// follow it. Re-lexing starts at the last token that cannot see the edit and stops as
+// soon as a new token starts exactly where a shifted old token starts; from there on
+// the old tokens are still valid. Comments and literals that span the edit are simply
+// re-scanned until that happens.
+public class IncrementalLexer {
+    // Furthest the lexer looks past the end of a token (".length" seen from '.').
+    private static final int LOOKAHEAD = 7;
+    private static final TokenType[] TYPES = TokenType.values();
+
+    private final GapText text;
+
+    private byte[] types;
+    private int[] offsets;
+    private int[] lengths;
+    private int gapStart;
+    private int gapEnd;
+
+    public IncrementalLexer(String source) {
+        text = new GapText(source);
+
+        int capacity = 256;
+        types = new byte[capacity];
+        offsets = new int[capacity];
+        lengths = new int[capacity];
+        gapStart = 0;
+        gapEnd = capacity;
+
+        Lexer lexer = new Lexer(text);
+        TokenType type;
+        do {
+            type = lexer.scanToken();
+            insert(type, lexer);
+        } while (type != TokenType.EOF);
+    }
+
+    public List<LexerToken> edit(int offset, int removedLength, String insertedText) {
+        int length = text.length();
+        if (offset < 0 || removedLength < 0 || offset + removedLength > length) {
+            throw new IndexOutOfBoundsException("Edit [" + offset + ", " + (offset + removedLength)
+                + ") outside document of length " + length);
+        }
+
+        moveGap(offset);
+
+        // Relex from the last token before the gap; it is unaffected but gives us a
+        // known token boundary.
+        int restart = 0;
+        if (gapStart > 0) {
+            gapStart--;
+            restart = offsets[gapStart];
+        }
+
+        // Tokens that start inside or before the removed range will be rescanned.
+        int removedEnd = offset + removedLength;
+        while (gapEnd < types.length && length - offsets[gapEnd] < removedEnd) {
+            gapEnd++;
+        }
+
+        text.replace(offset, removedLength, insertedText);
+
+        int newLength = text.length();
+        int editEnd = offset + insertedText.length();
+        Lexer lexer = new Lexer(text, restart);
+
+        while (true) {
+            TokenType type = lexer.scanToken();
+            int start = lexer.getTokenStart();
+
+            if (start >= editEnd) {
+                while (gapEnd < types.length && newLength - offsets[gapEnd] < start) {
+                    gapEnd++;
+                }
+                if (gapEnd < types.length && newLength - offsets[gapEnd] == start) {
+                    break;
+                }
+            }
+
+            insert(type, lexer);
+            if (type == TokenType.EOF) {
+                gapEnd = types.length;
+                break;
+            }
+        }
+
+        return getTokens();
+    }
+
+    public List<LexerToken> getTokens() {
+        return new TokenView();
+    }
+
+    public String getText() {
+        return text.toString();
+    }
+
+    public int getTokenCount() {
+        return gapStart + (types.length - gapEnd);
+    }
+
+    // Moves the gap so that every token before it ends more than LOOKAHEAD
+    // characters before offset.
+    private void moveGap(int offset) {
+        int length = text.length();
+
+        while (gapStart > 0 && offsets[gapStart - 1] + lengths[gapStart - 1] + LOOKAHEAD >= offset) {
+            gapStart--;
+            gapEnd--;
+            copy(gapStart, gapEnd);
+            offsets[gapEnd] = length - offsets[gapEnd];
+        }
+
+        while (gapEnd < types.length && length - offsets[gapEnd] + lengths[gapEnd] + LOOKAHEAD < offset) {
+            copy(gapEnd, gapStart);
+            offsets[gapStart] = length - offsets[gapStart];
+            gapStart++;
+            gapEnd++;
+        }
+    }
+
+    private void insert(TokenType type, Lexer lexer) {
+        if (gapStart == gapEnd) {
+            grow();
+        }
+        types[gapStart] = (byte) type.ordinal();
+        offsets[gapStart] = lexer.getTokenStart();
+        lengths[gapStart] = lexer.getTokenEnd() - lexer.getTokenStart();
+        gapStart++;
+    }
+
+    private void grow() {
+        int tail = types.length - gapEnd;
+        int capacity = types.length * 2;
+        types = growTail(types, Arrays.copyOf(types, capacity), tail);
+        offsets = growTail(offsets, Arrays.copyOf(offsets, capacity), tail);
+        lengths = growTail(lengths, Arrays.copyOf(lengths, capacity), tail);
+        gapEnd = capacity - tail;
+    }
+
+    private static byte[] growTail(byte[] from, byte[] to, int tail) {
+        System.arraycopy(from, from.length - tail, to, to.length - tail, tail);
+        return to;
+    }
+
+    private static int[] growTail(int[] from, int[] to, int tail) {
+        System.arraycopy(from, from.length - tail, to, to.length - tail, tail);
+        return to;
+    }
+
+    private void copy(int from, int to) {
+        types[to] = types[from];
+        offsets[to] = offsets[from];
+        lengths[to] = lengths[from];
+    }
+
+    private class TokenView extends AbstractList<LexerToken> implements RandomAccess {
+        @Override
+        public int size() {
+            return getTokenCount();
+        }
+
+        @Override
+        public LexerToken get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Token index " + index + " out of bounds for size " + size());
+            }
+
+            int i = index < gapStart ? index : index - gapStart + gapEnd;
+            int offset = offsets[i];
+            if (i >= gapEnd) {
+                offset = text.length() - offset;
+            }
+            // The text changes with the next edit, so the position is resolved now.
+            String value = text.text(offset, offset + lengths[i]);
+            return new LexerToken(TYPES[types[i]], value, offset, text.lineOf(offset), text.columnOf(offset));
+        }
+    }
+}
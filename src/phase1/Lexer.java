@@ -1,274 +1,398 @@
 package phase1;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 public class Lexer {
-    private String input;
+    // One minimized automaton for every token rule, generated offline by LexerGenerator.
+    private static final DFATable SCANNER = LexerTables.SCANNER;
+    private static final String[] SPELLINGS = spellings();
+
+    // Classes of the ASCII chars that skipWhitespaceAndComments() tests, so the common
+    // case is one array load; identifier, digit and operator chars are classified by
+    // the scanner's own table. Chars from 0x80 fall back to Character.isWhitespace.
+    private static final int WHITESPACE = 1;
+    private static final int SLASH = 2;
+    private static final byte[] ASCII_CLASSES = asciiClasses();
+
+    private CharSource input;
+    private boolean lazyValues;
+    private NamePool namePool;
+    private TokenCache tokenCache;
+    private String sourceName;
     private int pos;
-    private int line;
-    private int column;
-    private DFABuilder dfaBuilder;
+
+    // Tokens scanned per type since the last flush to CompilerMetrics.
+    private final int[] typeCounts = new int[TokenType.values().length];
+
+    // Start of the token most recently returned by scanToken(); the token ends at pos.
+    // Lines and columns are not tracked while scanning; tokens resolve them from the
+    // source's newline positions when asked.
+    private int tokenStart;
+    private String tokenText;
 
     public Lexer(String input) {
+        this(new StringSource(input));
+    }
+
+    // Maps the file and scans the mapped bytes in place. Token values are views into
+    // the mapping and are decoded only when requested; offsets and columns count bytes.
+    public Lexer(Path path) throws IOException {
+        this(map(path));
+        this.lazyValues = true;
+        this.sourceName = path.toString();
+    }
+
+    Lexer(CharSource input) {
+        this(input, 0);
+    }
+
+    // Resumes scanning at a known token boundary.
+    Lexer(CharSource input, int pos) {
         this.input = input;
-        this.pos = 0;
-        this.line = 1;
-        this.column = 1;
-        this.dfaBuilder = new DFABuilder();
+        this.lazyValues = false;
+        this.pos = pos;
     }
 
-    public List<LexerToken> tokenize() {
-        List<LexerToken> tokens = new ArrayList<>();
-        
-        while (pos < input.length()) {
-            skipWhitespaceAndComments();
-            
-            if (pos >= input.length()) {
-                break;
-            }
+    // Identifier and literal values are interned in the pool and tokens carry their ids.
+    public void setNamePool(NamePool namePool) {
+        this.namePool = namePool;
+    }
 
-            LexerToken LexerToken = nextToken();
-            if (LexerToken != null) {
-                tokens.add(LexerToken);
-            }
+    // Whole-input tokenize() and tokenizeToBuffer() calls first look for the input in
+    // the cache and store what they scan. Streamed readers and resumed lexers bypass it.
+    public void setTokenCache(TokenCache tokenCache) {
+        this.tokenCache = tokenCache;
+    }
+
+    // Names the input in Flight Recorder events; lexers of a Path use the path.
+    public void setSourceName(String sourceName) {
+        this.sourceName = sourceName;
+    }
+
+    public List<LexerToken> tokenize() {
+        LexerEvent event = new LexerEvent();
+        event.begin();
+
+        List<LexerToken> tokens;
+        if (usesCache()) {
+            TokenBuffer buffer = cachedBuffer(event);
+            buffer.countTypes(typeCounts);
+            tokens = tokens(buffer);
+        } else {
+            tokens = new ArrayList<>();
+            LexerToken token;
+            do {
+                token = next();
+                tokens.add(token);
+            } while (token.getType() != TokenType.EOF);
         }
 
-        tokens.add(new LexerToken(TokenType.EOF, "", line, column));
+        finish(event, tokens.size());
         return tokens;
     }
 
-    private LexerToken nextToken() {
-        char current = peek();
-        int startLine = line;
-        int startColumn = column;
+    // Same tokens as tokenize(), stored in primitive arrays instead of LexerToken objects.
+    public TokenBuffer tokenizeToBuffer() {
+        LexerEvent event = new LexerEvent();
+        event.begin();
+        TokenBuffer buffer = usesCache() ? cachedBuffer(event) : scanToBuffer();
+        buffer.countTypes(typeCounts);
+        finish(event, buffer.size());
+        return buffer;
+    }
 
-        LexerToken opToken = tryOperatorOrDelimiter();
-        if (opToken != null) {
-            return opToken;
-        }
+    // Tokens from start, which must be a token boundary, through the first token that
+    // reaches end, so a region can be re-lexed without scanning the rest of the input.
+    // Offsets, lines and columns are those of the whole input; EOF is only added if the
+    // input ends first.
+    public TokenBuffer tokenizeRange(int start, int end) {
+        TokenBuffer buffer = new TokenBuffer(input, namePool);
+        pos = start;
+        TokenType type;
+
+        do {
+            type = scanToken();
+            int nameId = isPooled(type) ? namePool.intern(input.text(tokenStart, pos)) : -1;
+            buffer.add(type, tokenStart, pos - tokenStart, nameId);
+        } while (type != TokenType.EOF && pos < end);
+
+        buffer.countTypes(typeCounts);
+        flushMetrics();
+        return buffer;
+    }
 
-        if (current == '"') {
-            return scanString(startLine, startColumn);
+    private TokenBuffer cachedBuffer(LexerEvent event) {
+        String key = TokenCache.key(input);
+        TokenBuffer cached = tokenCache.load(key, input, namePool);
+        if (cached == null) {
+            TokenBuffer scanned = scanToBuffer();
+            tokenCache.store(key, input, scanned);
+            return scanned;
         }
+        event.cached = true;
+        pos = input.length();
+        return cached;
+    }
 
-        if (current == '\'') {
-            return scanChar(startLine, startColumn);
-        }
+    // Adds the input's token counts to CompilerMetrics and reports it to Flight Recorder.
+    private void finish(LexerEvent event, int tokenCount) {
+        finish(event, tokenCount, input.length());
+    }
 
-        if (Character.isDigit(current)) {
-            return scanInteger(startLine, startColumn);
-        }
+    // Same for a TokenStream that reached EOF or was closed; its size is what was
+    // scanned, since a reader's length is unknown until the end.
+    void finishStream(LexerEvent event, int tokenCount) {
+        finish(event, tokenCount, pos);
+    }
 
-        if (isIdentifierStart(current)) {
-            return scanIdentifier(startLine, startColumn);
+    private void finish(LexerEvent event, int tokenCount, long size) {
+        int errors = typeCounts[TokenType.ERROR.ordinal()];
+        flushMetrics();
+        if (event.shouldCommit()) {
+            event.file = sourceName;
+            event.bytes = size;
+            event.tokens = tokenCount;
+            event.errors = errors;
+            event.commit();
         }
+    }
 
-        advance();
-        return new LexerToken(TokenType.ERROR, String.valueOf(current), startLine, startColumn);
+    void flushMetrics() {
+        CompilerMetrics.recordTokens(typeCounts);
     }
 
-    private LexerToken tryOperatorOrDelimiter() {
-        char c = peek();
-        int startLine = line;
-        int startColumn = column;
+    private TokenBuffer scanToBuffer() {
+        TokenBuffer buffer = new TokenBuffer(input, namePool);
+        TokenType type;
 
-        if (pos + 1 < input.length()) {
-            String twoChar = input.substring(pos, pos + 2);
-            TokenType type = null;
+        do {
+            type = scanToken();
+            int nameId = isPooled(type) ? namePool.intern(input.text(tokenStart, pos)) : -1;
+            buffer.add(type, tokenStart, pos - tokenStart, nameId);
+        } while (type != TokenType.EOF);
 
-            switch (twoChar) {
-                case "&&": type = TokenType.AND; break;
-                case "||": type = TokenType.OR; break;
-                case "<=": type = TokenType.LE; break;
-                case ">=": type = TokenType.GE; break;
-                case "==": type = TokenType.EQEQ; break;
-                case "!=": type = TokenType.NEQ; break;
-                case "**": type = TokenType.POWER; break;
-            }
+        return buffer;
+    }
 
-            if (type != null) {
-                advance();
-                advance();
-                return new LexerToken(type, twoChar, startLine, startColumn);
+    private boolean usesCache() {
+        return tokenCache != null && pos == 0 && input.length() >= 0 && input.retainsInput();
+    }
+
+    // The objects next() would have returned for the buffered tokens.
+    private List<LexerToken> tokens(TokenBuffer buffer) {
+        List<LexerToken> tokens = new ArrayList<>(buffer.size());
+        for (int i = 0; i < buffer.size(); i++) {
+            TokenType type = buffer.getType(i);
+            int offset = buffer.getOffset(i);
+            int nameId = buffer.getNameId(i);
+            LexerToken token;
+            if (nameId >= 0) {
+                token = new LexerToken(type, namePool.name(nameId), offset, input);
+                token.setNameId(nameId);
+            } else if (lazyValues) {
+                token = new LexerToken(type, input, offset, buffer.getLength(i));
+            } else {
+                String spelling = SPELLINGS[type.ordinal()];
+                String value = spelling != null ? spelling : input.text(offset, offset + buffer.getLength(i));
+                token = new LexerToken(type, value, offset, input);
             }
+            tokens.add(token);
         }
+        return tokens;
+    }
 
-        if (pos + 6 < input.length() && input.substring(pos, pos + 7).equals(".length")) {
-            String val = ".length";
-            for (int i = 0; i < 7; i++) advance();
-            return new LexerToken(TokenType.DOTLENGTH, val, startLine, startColumn);
-        }
+    // Lexes the whole input in chunks on the common fork/join pool. The result is the
+    // same as tokenize() on a fresh lexer; inputs shorter than two chunks of
+    // ParallelLexer.MIN_CHUNK_SIZE characters are lexed in one piece.
+    public List<LexerToken> tokenizeParallel(int chunkCount) {
+        return tokenizeParallel(chunkCount, ForkJoinPool.commonPool());
+    }
 
-        TokenType type = null;
-        switch (c) {
-            case '<': type = TokenType.LT; break;
-            case '>': type = TokenType.GT; break;
-            case '+': type = TokenType.PLUS; break;
-            case '-': type = TokenType.MINUS; break;
-            case '*': type = TokenType.TIMES; break;
-            case '/': type = TokenType.DIV; break;
-            case '%': type = TokenType.MOD; break;
-            case '!': type = TokenType.NOT; break;
-            case '=': type = TokenType.EQ; break;
-            case '(': type = TokenType.LPAREN; break;
-            case ')': type = TokenType.RPAREN; break;
-            case '{': type = TokenType.LBRACE; break;
-            case '}': type = TokenType.RBRACE; break;
-            case '[': type = TokenType.LBRACKET; break;
-            case ']': type = TokenType.RBRACKET; break;
-            case ';': type = TokenType.SEMICOLON; break;
-            case ',': type = TokenType.COMMA; break;
-            case '.': type = TokenType.DOT; break;
+    public List<LexerToken> tokenizeParallel(int chunkCount, ForkJoinPool pool) {
+        if (input.length() < 0) {
+            throw new IllegalStateException("Parallel lexing needs the complete input");
         }
-
-        if (type != null) {
-            advance();
-            return new LexerToken(type, String.valueOf(c), startLine, startColumn);
+        LexerEvent event = new LexerEvent();
+        event.begin();
+        List<LexerToken> tokens = new ParallelLexer(input, chunkCount, lazyValues, namePool).tokenize(pool);
+        for (LexerToken token : tokens) {
+            typeCounts[token.getType().ordinal()]++;
         }
-
-        return null;
+        event.parallel = true;
+        finish(event, tokens.size());
+        return tokens;
     }
 
-    private LexerToken scanIdentifier(int startLine, int startColumn) {
-        DFAState start = dfaBuilder.buildIdentifierDFA();
-        StringBuilder sb = new StringBuilder();
-        DFAState currentState = start;
-        DFAState lastAcceptingState = null;
-        int lastAcceptingPos = pos;
-
-        while (pos < input.length()) {
-            char c = peek();
-            DFAState nextState = currentState.transition(c);
-
-            if (nextState == null) {
-                break;
-            }
-
-            sb.append(c);
-            advance();
-            currentState = nextState;
+    // Returns the next token, or an EOF token once the input is exhausted.
+    LexerToken next() {
+        TokenType type = scanToken();
+        typeCounts[type.ordinal()]++;
 
-            if (currentState.isAccepting()) {
-                lastAcceptingState = currentState;
-                lastAcceptingPos = pos;
-            }
+        if (isPooled(type)) {
+            int nameId = namePool.intern(input.text(tokenStart, pos));
+            LexerToken token = token(type, namePool.name(nameId));
+            token.setNameId(nameId);
+            return token;
         }
 
-        if (lastAcceptingState != null) {
-            String value = sb.toString();
-            TokenType type = dfaBuilder.getKeywordType(value);
-            return new LexerToken(type, value, startLine, startColumn);
+        if (lazyValues) {
+            return new LexerToken(type, input, tokenStart, pos - tokenStart);
         }
 
-        return new LexerToken(TokenType.ERROR, sb.toString(), startLine, startColumn);
+        return token(type, tokenText != null ? tokenText : input.text(tokenStart, pos));
     }
 
-    private LexerToken scanInteger(int startLine, int startColumn) {
-        DFAState start = dfaBuilder.buildIntegerDFA();
-        StringBuilder sb = new StringBuilder();
-        DFAState currentState = start;
-        DFAState lastAcceptingState = null;
-        int lastAcceptingPos = pos;
+    // A source that drops consumed input cannot answer line queries later, so its
+    // tokens get their line and column now.
+    private LexerToken token(TokenType type, String value) {
+        if (input.retainsInput()) {
+            return new LexerToken(type, value, tokenStart, input);
+        }
+        return new LexerToken(type, value, tokenStart, input.lineOf(tokenStart), input.columnOf(tokenStart));
+    }
 
-        while (pos < input.length()) {
-            char c = peek();
-            DFAState nextState = currentState.transition(c);
+    private boolean isPooled(TokenType type) {
+        return namePool != null && isValueType(type);
+    }
 
-            if (nextState == null) {
-                break;
-            }
+    // Token types whose value is the scanned text rather than a fixed spelling.
+    static boolean isValueType(TokenType type) {
+        switch (type) {
+            case IDENTIFIER:
+            case INTEGER_LITERAL:
+            case STRING_LITERAL:
+            case CHAR_LITERAL:
+                return true;
+            default:
+                return false;
+        }
+    }
 
-            sb.append(c);
-            advance();
-            currentState = nextState;
+    static String spelling(TokenType type) {
+        return SPELLINGS[type.ordinal()];
+    }
 
-            if (currentState.isAccepting()) {
-                lastAcceptingState = currentState;
-                lastAcceptingPos = pos;
+    private static CharSource map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File too large to map: " + path);
             }
+            return new MappedSource(channel.map(FileChannel.MapMode.READ_ONLY, 0, size));
         }
+    }
 
-        if (lastAcceptingState != null) {
-            String value = sb.toString();
-            return new LexerToken(TokenType.INTEGER_LITERAL, value, startLine, startColumn);
-        }
+    int getTokenStart() {
+        return tokenStart;
+    }
 
-        return new LexerToken(TokenType.ERROR, sb.toString(), startLine, startColumn);
+    int getTokenEnd() {
+        return pos;
     }
 
-    private LexerToken scanString(int startLine, int startColumn) {
-        DFAState start = dfaBuilder.buildStringDFA();
-        StringBuilder sb = new StringBuilder();
-        DFAState currentState = start;
+    // Maximal munch: runs the scanner until it dies and returns the last accepting
+    // state, so ".len" still yields DOT when ".length" does not complete. Input that
+    // no rule starts with becomes a one-character ERROR token.
+    TokenType scanToken() {
+        skipWhitespaceAndComments();
+
+        tokenStart = pos;
+        tokenText = null;
 
-        while (pos < input.length()) {
-            char c = peek();
-            DFAState nextState = currentState.transition(c);
+        if (!input.has(pos)) {
+            return TokenType.EOF;
+        }
 
-            if (nextState == null) {
+        int state = SCANNER.start();
+        TokenType type = null;
+        int end = pos;
+
+        for (int i = pos; input.has(i); i++) {
+            state = SCANNER.next(state, input.charAt(i));
+            if (state == DFATable.DEAD) {
                 break;
             }
+            TokenType accepted = SCANNER.getTokenType(state);
+            if (accepted != null) {
+                type = accepted;
+                end = i + 1;
+            }
+        }
 
-            sb.append(c);
+        if (type == null) {
             advance();
-            currentState = nextState;
-
-            if (currentState.isAccepting()) {
-                return new LexerToken(TokenType.STRING_LITERAL, sb.toString(), startLine, startColumn);
-            }
+            return TokenType.ERROR;
         }
 
-        return new LexerToken(TokenType.ERROR, sb.toString(), startLine, startColumn);
+        pos = end;
+        tokenText = SPELLINGS[type.ordinal()];
+        return type;
     }
 
-    private LexerToken scanChar(int startLine, int startColumn) {
-        DFAState start = dfaBuilder.buildCharDFA();
-        StringBuilder sb = new StringBuilder();
-        DFAState currentState = start;
-
-        while (pos < input.length()) {
-            char c = peek();
-            DFAState nextState = currentState.transition(c);
-
-            if (nextState == null) {
-                break;
-            }
-
-            sb.append(c);
-            advance();
-            currentState = nextState;
+    private static String[] spellings() {
+        DFABuilder builder = new DFABuilder();
+        TokenType[] types = TokenType.values();
+        String[] spellings = new String[types.length];
+        for (TokenType type : types) {
+            spellings[type.ordinal()] = builder.getSpelling(type);
+        }
+        return spellings;
+    }
 
-            if (currentState.isAccepting()) {
-                return new LexerToken(TokenType.CHAR_LITERAL, sb.toString(), startLine, startColumn);
+    private static byte[] asciiClasses() {
+        byte[] classes = new byte[128];
+        for (char c = 0; c < classes.length; c++) {
+            if (Character.isWhitespace(c)) {
+                classes[c] = WHITESPACE;
             }
         }
+        classes['/'] = SLASH;
+        return classes;
+    }
 
-        return new LexerToken(TokenType.ERROR, sb.toString(), startLine, startColumn);
+    private static int classOf(char c) {
+        if (c < 128) {
+            return ASCII_CLASSES[c];
+        }
+        return Character.isWhitespace(c) ? WHITESPACE : 0;
     }
 
     private void skipWhitespaceAndComments() {
-        while (pos < input.length()) {
-            char c = peek();
+        while (input.has(pos)) {
+            input.release(pos);
+            char c = input.charAt(pos);
+            int cls = classOf(c);
 
-            if (Character.isWhitespace(c)) {
-                advance();
+            if (cls == 0) {
+                break;
+            }
+
+            if (cls == WHITESPACE) {
+                pos++;
                 continue;
             }
 
-            if (c == '/' && pos + 1 < input.length() && peek(1) == '/') {
+            if (c == '/' && input.has(pos + 1) && peek(1) == '/') {
                 advance();
                 advance();
-                while (pos < input.length() && peek() != '\n') {
+                while (input.has(pos) && peek() != '\n') {
+                    input.release(pos);
                     advance();
                 }
                 continue;
             }
 
-            if (c == '/' && pos + 1 < input.length() && peek(1) == '*') {
+            if (c == '/' && input.has(pos + 1) && peek(1) == '*') {
                 advance();
                 advance();
-                while (pos + 1 < input.length()) {
+                while (input.has(pos + 1)) {
+                    input.release(pos);
                     if (peek() == '*' && peek(1) == '/') {
                         advance();
                         advance();
@@ -283,31 +407,20 @@ public class Lexer {
         }
     }
 
-    private boolean isIdentifierStart(char c) {
-        return Character.isLetter(c) || c == '$' || c == '_';
-    }
-
     private char peek() {
         return peek(0);
     }
 
     private char peek(int offset) {
         int index = pos + offset;
-        if (index >= input.length()) {
+        if (!input.has(index)) {
             return '\0';
         }
         return input.charAt(index);
     }
 
     private void advance() {
-        if (pos < input.length()) {
-            char c = input.charAt(pos);
-            if (c == '\n') {
-                line++;
-                column = 1;
-            } else {
-                column++;
-            }
+        if (input.has(pos)) {
             pos++;
         }
     }
@@ -0,0 +1,35 @@
+package phase1;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+// Flight Recorder event for one whole-input tokenize call or one TokenStream. Disabled events cost a
+// begin() and a shouldCommit() check; fields are only filled in when recording.
+@Name("phase1.Lex")
+@Label("Lex")
+@Category({"Java--", "Compiler"})
+@Description("Tokenizes one source")
+final class LexerEvent extends jdk.jfr.Event {
+    @Label("File")
+    String file;
+
+    // Characters for string sources, bytes for mapped files.
+    @Label("Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Tokens")
+    int tokens;
+
+    @Label("Errors")
+    int errors;
+
+    @Label("Cache Hit")
+    boolean cached;
+
+    @Label("Parallel")
+    boolean parallel;
+}
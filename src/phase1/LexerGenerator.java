@@ -0,0 +1,560 @@
+package phase1;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Offline generator for LexerTables. Token rules are compiled into one Thompson NFA,
+// turned into a DFA by subset construction, minimized with Hopcroft's algorithm and
+// written out as packed tables, so the lexer builds no automaton at run time.
+//
+// Rules are added in priority order: when two rules match the same longest input, the
+// one added first wins. Patterns use a small regex syntax over ASCII: literals, \
+// escapes (\n, \r, \t, anything else literally), '.', [a-z] and [^...] classes,
+// grouping, '|', '*', '+' and '?'. Non-ASCII characters never match.
+//
+// Usage: java phase1.LexerGenerator [output file]
+public class LexerGenerator {
+    private static final int ASCII_SIZE = 128;
+    private static final String DEFAULT_OUTPUT = "src/phase1/LexerTables.java";
+
+    private final List<NfaState> nfa = new ArrayList<>();
+    private final NfaState start = newState();
+    private int ruleCount;
+
+    // Minimized automaton, filled in by generate().
+    private int[] asciiClasses;
+    private int[][] transitions;
+    private TokenType[] acceptTypes;
+
+    public static void main(String[] args) throws IOException {
+        Path output = Paths.get(args.length > 0 ? args[0] : DEFAULT_OUTPUT);
+        LexerGenerator generator = new LexerGenerator();
+        new DFABuilder().defineTokens(generator);
+        generator.generate();
+        Files.write(output, generator.toJavaSource().getBytes(StandardCharsets.UTF_8));
+        System.out.println("Wrote " + output + ": " + generator.transitions.length + " states, "
+            + generator.transitions[0].length + " character classes");
+    }
+
+    public void addLiteral(String text, TokenType type) {
+        Fragment fragment = null;
+        for (int i = 0; i < text.length(); i++) {
+            BitSet chars = new BitSet(ASCII_SIZE);
+            chars.set(checkAscii(text.charAt(i)));
+            fragment = concat(fragment, charFragment(chars));
+        }
+        addRule(fragment, type);
+    }
+
+    public void addPattern(String pattern, TokenType type) {
+        PatternParser parser = new PatternParser(pattern);
+        Fragment fragment = parser.parseAlternation();
+        if (parser.pos != pattern.length()) {
+            throw new IllegalArgumentException("Unexpected '" + pattern.charAt(parser.pos)
+                + "' at " + parser.pos + " in pattern " + pattern);
+        }
+        addRule(fragment, type);
+    }
+
+    private void addRule(Fragment fragment, TokenType type) {
+        if (fragment == null) {
+            throw new IllegalArgumentException("Empty rule for " + type);
+        }
+        fragment.end.acceptType = type;
+        fragment.end.priority = ruleCount++;
+        start.epsilons.add(fragment.start);
+    }
+
+    public void generate() {
+        // Subset construction. DFA states are identified by their sets of NFA states.
+        Map<BitSet, Integer> ids = new HashMap<>();
+        List<BitSet> sets = new ArrayList<>();
+        List<int[]> moves = new ArrayList<>();
+        ArrayDeque<BitSet> queue = new ArrayDeque<>();
+
+        BitSet initial = closure(singleton(start.id));
+        ids.put(initial, 0);
+        sets.add(initial);
+        queue.add(initial);
+
+        while (!queue.isEmpty()) {
+            BitSet set = queue.poll();
+            int[] row = new int[ASCII_SIZE];
+            for (int c = 0; c < ASCII_SIZE; c++) {
+                BitSet moved = new BitSet();
+                for (int s = set.nextSetBit(0); s >= 0; s = set.nextSetBit(s + 1)) {
+                    NfaState state = nfa.get(s);
+                    if (state.target != null && state.chars.get(c)) {
+                        moved.set(state.target.id);
+                    }
+                }
+                if (moved.isEmpty()) {
+                    row[c] = DFATable.DEAD;
+                    continue;
+                }
+                BitSet next = closure(moved);
+                Integer id = ids.get(next);
+                if (id == null) {
+                    id = sets.size();
+                    ids.put(next, id);
+                    sets.add(next);
+                    queue.add(next);
+                }
+                row[c] = id;
+            }
+            moves.add(row);
+        }
+
+        TokenType[] accepts = new TokenType[sets.size()];
+        for (int d = 0; d < sets.size(); d++) {
+            accepts[d] = acceptOf(sets.get(d));
+        }
+
+        minimize(moves, accepts);
+    }
+
+    // Hopcroft's partition refinement. A dead state is added so that every state has a
+    // transition on every character; its block becomes DFATable.DEAD in the output.
+    private void minimize(List<int[]> moves, TokenType[] accepts) {
+        int n = moves.size();
+        int dead = n;
+        int total = n + 1;
+
+        int[][] delta = new int[total][];
+        for (int s = 0; s < n; s++) {
+            delta[s] = moves.get(s).clone();
+            for (int c = 0; c < ASCII_SIZE; c++) {
+                if (delta[s][c] == DFATable.DEAD) {
+                    delta[s][c] = dead;
+                }
+            }
+        }
+        delta[dead] = new int[ASCII_SIZE];
+        Arrays.fill(delta[dead], dead);
+
+        Map<TokenType, BitSet> byAccept = new HashMap<>();
+        BitSet rejecting = new BitSet(total);
+        for (int s = 0; s < total; s++) {
+            TokenType type = s < n ? accepts[s] : null;
+            if (type == null) {
+                rejecting.set(s);
+            } else {
+                byAccept.computeIfAbsent(type, t -> new BitSet(total)).set(s);
+            }
+        }
+
+        List<BitSet> partition = new ArrayList<>(byAccept.values());
+        if (!rejecting.isEmpty()) {
+            partition.add(rejecting);
+        }
+        List<BitSet> work = new ArrayList<>(partition);
+
+        while (!work.isEmpty()) {
+            BitSet splitter = work.remove(work.size() - 1);
+            for (int c = 0; c < ASCII_SIZE; c++) {
+                BitSet predecessors = new BitSet(total);
+                for (int s = 0; s < total; s++) {
+                    if (splitter.get(delta[s][c])) {
+                        predecessors.set(s);
+                    }
+                }
+                if (predecessors.isEmpty()) {
+                    continue;
+                }
+
+                for (int b = 0; b < partition.size(); b++) {
+                    BitSet block = partition.get(b);
+                    BitSet inside = (BitSet) block.clone();
+                    inside.and(predecessors);
+                    if (inside.isEmpty() || inside.cardinality() == block.cardinality()) {
+                        continue;
+                    }
+                    BitSet outside = (BitSet) block.clone();
+                    outside.andNot(predecessors);
+
+                    partition.set(b, inside);
+                    partition.add(outside);
+                    int pending = indexOfSame(work, block);
+                    if (pending >= 0) {
+                        work.set(pending, inside);
+                        work.add(outside);
+                    } else {
+                        work.add(inside.cardinality() <= outside.cardinality() ? inside : outside);
+                    }
+                }
+            }
+        }
+
+        int[] blockOf = new int[total];
+        for (int b = 0; b < partition.size(); b++) {
+            BitSet block = partition.get(b);
+            for (int s = block.nextSetBit(0); s >= 0; s = block.nextSetBit(s + 1)) {
+                blockOf[s] = b;
+            }
+        }
+
+        // Renumber blocks breadth-first from the start block so that state 0 is the
+        // start state and the output does not depend on NFA numbering.
+        int[] number = new int[partition.size()];
+        Arrays.fill(number, -1);
+        int deadBlock = blockOf[dead];
+        List<Integer> order = new ArrayList<>();
+        number[blockOf[0]] = 0;
+        order.add(blockOf[0]);
+        for (int i = 0; i < order.size(); i++) {
+            int representative = partition.get(order.get(i)).nextSetBit(0);
+            for (int c = 0; c < ASCII_SIZE; c++) {
+                int target = blockOf[delta[representative][c]];
+                if (target != deadBlock && number[target] < 0) {
+                    number[target] = order.size();
+                    order.add(target);
+                }
+            }
+        }
+
+        int stateCount = order.size();
+        int[][] columns = new int[ASCII_SIZE][stateCount];
+        acceptTypes = new TokenType[stateCount];
+        for (int i = 0; i < stateCount; i++) {
+            int representative = partition.get(order.get(i)).nextSetBit(0);
+            acceptTypes[i] = accepts[representative];
+            for (int c = 0; c < ASCII_SIZE; c++) {
+                int target = blockOf[delta[representative][c]];
+                columns[c][i] = target == deadBlock ? DFATable.DEAD : number[target];
+            }
+        }
+
+        // Characters with identical columns share a class. Class 0 is reserved for
+        // characters on which every state dies, which includes all non-ASCII input.
+        Map<List<Integer>, Integer> classByColumn = new HashMap<>();
+        List<int[]> classColumns = new ArrayList<>();
+        int[] deadColumn = new int[stateCount];
+        Arrays.fill(deadColumn, DFATable.DEAD);
+        classByColumn.put(key(deadColumn), 0);
+        classColumns.add(deadColumn);
+
+        asciiClasses = new int[ASCII_SIZE];
+        for (int c = 0; c < ASCII_SIZE; c++) {
+            List<Integer> key = key(columns[c]);
+            Integer cls = classByColumn.get(key);
+            if (cls == null) {
+                cls = classColumns.size();
+                classByColumn.put(key, cls);
+                classColumns.add(columns[c]);
+            }
+            asciiClasses[c] = cls;
+        }
+
+        transitions = new int[stateCount][classColumns.size()];
+        for (int cls = 0; cls < classColumns.size(); cls++) {
+            int[] column = classColumns.get(cls);
+            for (int s = 0; s < stateCount; s++) {
+                transitions[s][cls] = column[s];
+            }
+        }
+    }
+
+    String toJavaSource() {
+        StringBuilder out = new StringBuilder();
+        out.append("package phase1;\n\n");
+        out.append("// Generated by LexerGenerator from the token rules in DFABuilder.defineTokens().\n");
+        out.append("// Do not edit; run generate.bat after changing the rules.\n");
+        out.append("//\n");
+        out.append("// Every string holds one char per entry. Transition targets are stored plus one,\n");
+        out.append("// so 0 is the dead state; accept types are stored as TokenType ordinal plus one.\n");
+        out.append("final class LexerTables {\n");
+        out.append("    static final int STATE_COUNT = ").append(transitions.length).append(";\n");
+        out.append("    static final int CLASS_COUNT = ").append(transitions[0].length).append(";\n\n");
+
+        out.append("    private static final String CLASSES =\n");
+        appendPacked(out, asciiClasses, 0, "        ", ";\n\n");
+
+        int[] accepts = new int[acceptTypes.length];
+        for (int s = 0; s < acceptTypes.length; s++) {
+            accepts[s] = acceptTypes[s] == null ? 0 : acceptTypes[s].ordinal() + 1;
+        }
+        out.append("    private static final String ACCEPT =\n");
+        appendPacked(out, accepts, 0, "        ", ";\n\n");
+
+        out.append("    private static final String[] TRANSITIONS = {\n");
+        for (int s = 0; s < transitions.length; s++) {
+            out.append("        // ").append(s);
+            if (acceptTypes[s] != null) {
+                out.append(" ").append(acceptTypes[s]);
+            }
+            out.append("\n");
+            appendPacked(out, transitions[s], 1, "        ", s + 1 < transitions.length ? ",\n" : "\n");
+        }
+        out.append("    };\n\n");
+
+        out.append("    static final DFATable SCANNER = unpack();\n\n");
+        out.append("    private LexerTables() {\n");
+        out.append("    }\n\n");
+        out.append("    private static DFATable unpack() {\n");
+        out.append("        TokenType[] types = TokenType.values();\n");
+        out.append("        int[] classes = new int[CLASSES.length()];\n");
+        out.append("        for (int c = 0; c < classes.length; c++) {\n");
+        out.append("            classes[c] = CLASSES.charAt(c);\n");
+        out.append("        }\n");
+        out.append("        int[][] transitions = new int[STATE_COUNT][CLASS_COUNT];\n");
+        out.append("        TokenType[] accept = new TokenType[STATE_COUNT];\n");
+        out.append("        for (int s = 0; s < STATE_COUNT; s++) {\n");
+        out.append("            for (int cls = 0; cls < CLASS_COUNT; cls++) {\n");
+        out.append("                transitions[s][cls] = TRANSITIONS[s].charAt(cls) - 1;\n");
+        out.append("            }\n");
+        out.append("            int type = ACCEPT.charAt(s);\n");
+        out.append("            accept[s] = type == 0 ? null : types[type - 1];\n");
+        out.append("        }\n");
+        out.append("        return new DFATable(classes, 0, transitions, accept);\n");
+        out.append("    }\n");
+        out.append("}\n");
+        return out.toString();
+    }
+
+    // Writes values as a string literal of escaped chars, 16 per line. Octal escapes
+    // are used below 256 because a unicode escape for a newline or quote would be
+    // translated before the literal is parsed.
+    private static void appendPacked(StringBuilder out, int[] values, int bias, String indent, String end) {
+        for (int i = 0; i < values.length; i += 16) {
+            out.append(indent).append(i == 0 ? "  \"" : "+ \"");
+            for (int j = i; j < Math.min(i + 16, values.length); j++) {
+                int value = values[j] + bias;
+                out.append(value < 256 ? String.format("\\%03o", value) : String.format("\\u%04x", value));
+            }
+            out.append("\"");
+            out.append(i + 16 < values.length ? "\n" : end);
+        }
+    }
+
+    private static List<Integer> key(int[] column) {
+        List<Integer> key = new ArrayList<>(column.length);
+        for (int target : column) {
+            key.add(target);
+        }
+        return key;
+    }
+
+    private static int indexOfSame(List<BitSet> list, BitSet set) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == set) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private TokenType acceptOf(BitSet set) {
+        TokenType type = null;
+        int priority = Integer.MAX_VALUE;
+        for (int s = set.nextSetBit(0); s >= 0; s = set.nextSetBit(s + 1)) {
+            NfaState state = nfa.get(s);
+            if (state.acceptType != null && state.priority < priority) {
+                type = state.acceptType;
+                priority = state.priority;
+            }
+        }
+        return type;
+    }
+
+    private BitSet closure(BitSet states) {
+        BitSet result = (BitSet) states.clone();
+        ArrayDeque<Integer> stack = new ArrayDeque<>();
+        for (int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s + 1)) {
+            stack.push(s);
+        }
+        while (!stack.isEmpty()) {
+            for (NfaState next : nfa.get(stack.pop()).epsilons) {
+                if (!result.get(next.id)) {
+                    result.set(next.id);
+                    stack.push(next.id);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static BitSet singleton(int id) {
+        BitSet set = new BitSet();
+        set.set(id);
+        return set;
+    }
+
+    private static char checkAscii(char c) {
+        if (c >= ASCII_SIZE) {
+            throw new IllegalArgumentException("Non-ASCII character in token rule: " + c);
+        }
+        return c;
+    }
+
+    private NfaState newState() {
+        NfaState state = new NfaState(nfa.size());
+        nfa.add(state);
+        return state;
+    }
+
+    private Fragment charFragment(BitSet chars) {
+        NfaState from = newState();
+        NfaState to = newState();
+        from.chars = chars;
+        from.target = to;
+        return new Fragment(from, to);
+    }
+
+    private Fragment concat(Fragment first, Fragment second) {
+        if (first == null) {
+            return second;
+        }
+        first.end.epsilons.add(second.start);
+        return new Fragment(first.start, second.end);
+    }
+
+    private Fragment alternate(Fragment first, Fragment second) {
+        NfaState from = newState();
+        NfaState to = newState();
+        from.epsilons.add(first.start);
+        from.epsilons.add(second.start);
+        first.end.epsilons.add(to);
+        second.end.epsilons.add(to);
+        return new Fragment(from, to);
+    }
+
+    private Fragment repeat(Fragment body, char operator) {
+        NfaState from = newState();
+        NfaState to = newState();
+        from.epsilons.add(body.start);
+        body.end.epsilons.add(to);
+        if (operator != '+') {
+            from.epsilons.add(to);
+        }
+        if (operator != '?') {
+            body.end.epsilons.add(body.start);
+        }
+        return new Fragment(from, to);
+    }
+
+    private static final class NfaState {
+        final int id;
+        final List<NfaState> epsilons = new ArrayList<>();
+        BitSet chars;
+        NfaState target;
+        TokenType acceptType;
+        int priority;
+
+        NfaState(int id) {
+            this.id = id;
+        }
+    }
+
+    private static final class Fragment {
+        final NfaState start;
+        final NfaState end;
+
+        Fragment(NfaState start, NfaState end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
+
+    private final class PatternParser {
+        final String pattern;
+        int pos;
+
+        PatternParser(String pattern) {
+            this.pattern = pattern;
+        }
+
+        Fragment parseAlternation() {
+            Fragment result = parseSequence();
+            while (pos < pattern.length() && pattern.charAt(pos) == '|') {
+                pos++;
+                result = alternate(result, parseSequence());
+            }
+            return result;
+        }
+
+        private Fragment parseSequence() {
+            Fragment result = null;
+            while (pos < pattern.length() && pattern.charAt(pos) != '|' && pattern.charAt(pos) != ')') {
+                result = concat(result, parseRepeat());
+            }
+            if (result == null) {
+                throw new IllegalArgumentException("Empty alternative at " + pos + " in pattern " + pattern);
+            }
+            return result;
+        }
+
+        private Fragment parseRepeat() {
+            Fragment result = parseAtom();
+            while (pos < pattern.length() && "*+?".indexOf(pattern.charAt(pos)) >= 0) {
+                result = repeat(result, pattern.charAt(pos++));
+            }
+            return result;
+        }
+
+        private Fragment parseAtom() {
+            char c = pattern.charAt(pos++);
+            if (c == '(') {
+                Fragment inner = parseAlternation();
+                expect(')');
+                return inner;
+            }
+
+            BitSet chars = new BitSet(ASCII_SIZE);
+            if (c == '[') {
+                boolean negated = pos < pattern.length() && pattern.charAt(pos) == '^';
+                if (negated) {
+                    pos++;
+                }
+                while (pos < pattern.length() && pattern.charAt(pos) != ']') {
+                    char low = literal();
+                    char high = low;
+                    if (pos + 1 < pattern.length() && pattern.charAt(pos) == '-' && pattern.charAt(pos + 1) != ']') {
+                        pos++;
+                        high = literal();
+                    }
+                    chars.set(low, high + 1);
+                }
+                expect(']');
+                if (negated) {
+                    chars.flip(0, ASCII_SIZE);
+                }
+            } else if (c == '.') {
+                chars.set(0, ASCII_SIZE);
+            } else {
+                pos--;
+                chars.set(literal());
+            }
+            return charFragment(chars);
+        }
+
+        private char literal() {
+            char c = pattern.charAt(pos++);
+            if (c == '\\') {
+                c = pattern.charAt(pos++);
+                switch (c) {
+                    case 'n': c = '\n'; break;
+                    case 'r': c = '\r'; break;
+                    case 't': c = '\t'; break;
+                }
+            }
+            return checkAscii(c);
+        }
+
+        private void expect(char c) {
+            if (pos >= pattern.length() || pattern.charAt(pos) != c) {
+                throw new IllegalArgumentException("Expected '" + c + "' at " + pos + " in pattern " + pattern);
+            }
+            pos++;
+        }
+    }
+}
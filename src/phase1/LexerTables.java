@@ -0,0 +1,1001 @@
+package phase1;
+
+// Generated by LexerGenerator from the token rules in DFABuilder.defineTokens().
+// Do not edit; run generate.bat after changing the rules.
+//
+// Every string holds one char per entry. Transition targets are stored plus one,
+// so 0 is the dead state; accept types are stored as TokenType ordinal plus one.
+final class LexerTables {
+    static final int STATE_COUNT = 188;
+    static final int CLASS_COUNT = 54;
+
+    private static final String CLASSES =
+          "\001\001\001\001\001\001\001\001\001\001\002\001\001\002\001\001"
+        + "\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001\001"
+        + "\001\003\004\001\005\006\007\010\011\012\013\014\015\016\017\020"
+        + "\021\022\022\022\022\022\022\022\022\022\001\023\024\025\026\001"
+        + "\001\005\005\005\005\005\005\005\005\005\005\005\027\005\005\005"
+        + "\005\005\005\030\005\005\005\005\005\005\005\031\032\033\001\034"
+        + "\001\035\036\037\040\041\042\043\044\045\005\046\047\050\051\052"
+        + "\053\005\054\055\056\057\060\061\062\005\005\063\064\065\001\001";
+
+    private static final String ACCEPT =
+          "\000\057\100\076\055\000\100\061\062\053\051\070\052\071\054\073"
+        + "\073\067\043\060\045\076\065\066\076\076\076\076\076\076\076\076"
+        + "\076\076\076\076\076\076\063\000\064\050\075\100\041\100\100\056"
+        + "\000\073\044\047\046\076\076\076\076\076\076\076\076\076\076\076"
+        + "\013\076\076\076\076\076\076\076\076\076\076\076\076\076\042\074"
+        + "\000\076\076\076\076\076\076\076\076\076\076\012\076\016\076\022"
+        + "\076\076\076\076\076\076\076\076\076\076\076\000\076\076\076\076"
+        + "\004\076\076\007\076\076\076\076\076\021\023\076\076\076\076\030"
+        + "\076\076\034\035\036\076\000\076\076\076\003\005\076\076\011\076"
+        + "\076\076\040\076\076\076\076\076\037\000\033\076\076\076\076\076"
+        + "\015\076\076\076\076\027\031\032\072\076\002\076\010\076\076\076"
+        + "\025\076\001\006\076\076\020\076\076\017\026\014";
+
+    private static final String[] TRANSITIONS = {
+        // 0
+          "\000\000\000\002\003\004\005\006\007\010\011\012\013\014\015\016"
+        + "\017\020\021\022\023\024\025\004\026\027\000\030\004\031\032\033"
+        + "\004\034\035\004\004\036\004\004\037\040\004\041\042\043\044\004"
+        + "\045\046\004\047\050\051",
+        // 1 NOT
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\052\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 2 ERROR
+          "\000\003\003\003\053\003\003\003\003\003\003\003\003\003\003\003"
+        + "\003\003\003\003\003\003\003\003\003\003\054\003\003\003\003\003"
+        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+        + "\003\003\003\003\003\003",
+        // 3 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 4 MOD
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 5
+          "\000\000\000\000\000\000\000\055\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 6 ERROR
+          "\000\056\000\056\056\056\056\056\000\056\056\056\056\056\056\056"
+        + "\056\056\056\056\056\056\056\056\056\056\057\056\056\056\056\056"
+        + "\056\056\056\056\056\056\056\056\056\056\056\056\056\056\056\056"
+        + "\056\056\056\056\056\056",
+        // 7 LPAREN
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 8 RPAREN
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 9 TIMES
+          "\000\000\000\000\000\000\000\000\000\000\000\060\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 10 PLUS
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 11 COMMA
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 12 MINUS
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 13 DOT
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\061\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 14 DIV
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 15 INTEGER_LITERAL
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\062\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\062\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 16 INTEGER_LITERAL
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\021\021\000\000\000\000\062\000\000\000\000\021\000\000\000"
+        + "\000\000\000\000\000\000\000\062\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 17 SEMICOLON
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 18 LT
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\063\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 19 EQ
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\064\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 20 GT
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\065\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 21 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\066\004"
+        + "\004\004\004\000\000\000",
+        // 22 LBRACKET
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 23 RBRACKET
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 24 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\067\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 25 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\070\004\071\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 26 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\072\004\004\073\004\004\074\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 27 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\075\004\004\004\004\004\004\004\004"
+        + "\004\004\076\000\000\000",
+        // 28 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\077\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\100\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 29 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\101\004\004\004\004\004\102\103\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 30 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\104\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 31 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\105\004\004\004\004\004\004\004\004\004\004\004\004\004\106"
+        + "\004\004\004\000\000\000",
+        // 32 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\107\004\004\110"
+        + "\004\004\004\000\000\000",
+        // 33 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\111\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 34 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\112\004"
+        + "\004\004\004\000\000\000",
+        // 35 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\113\004\004\004\004\004\004\004\114\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 36 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\115\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 37 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\116\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 38 LBRACE
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 39
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\117\000",
+        // 40 RBRACE
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 41 NEQ
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 42 STRING_LITERAL
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 43 ERROR
+          "\000\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+        + "\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003\003"
+        + "\003\003\003\003\003\003",
+        // 44 AND
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 45 ERROR
+          "\000\000\000\000\000\000\000\000\120\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 46 ERROR
+          "\000\056\056\056\056\056\056\056\056\056\056\056\056\056\056\056"
+        + "\056\056\056\056\056\056\056\056\056\056\056\056\056\056\056\056"
+        + "\056\056\056\056\056\056\056\056\056\056\056\056\056\056\056\056"
+        + "\056\056\056\056\056\056",
+        // 47 POWER
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 48
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\121\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 49 INTEGER_LITERAL
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 50 LE
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 51 EQEQ
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 52 GE
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 53 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\122\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 54 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\123\004\004"
+        + "\004\004\004\000\000\000",
+        // 55 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\124\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 56 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\125\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 57 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\126\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 58 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\127\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 59 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\130\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 60 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\131\004\004"
+        + "\004\004\004\000\000\000",
+        // 61 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\132\004"
+        + "\004\004\004\000\000\000",
+        // 62 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\133\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 63 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\134\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 64 IF
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 65 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\135\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 66 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\136\004"
+        + "\004\004\004\000\000\000",
+        // 67 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\137\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 68 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\140\004\000\000\000",
+        // 69 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\141\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 70 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\142\004\004\004\004\143\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 71 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\144\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 72 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\145\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\146\004"
+        + "\004\004\004\000\000\000",
+        // 73 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\147\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 74 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\150\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 75 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\151"
+        + "\004\004\004\000\000\000",
+        // 76 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\152\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 77 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\153\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 78 OR
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 79 CHAR_LITERAL
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 80
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\154\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 81 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\155\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 82 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\156\004"
+        + "\004\004\004\000\000\000",
+        // 83 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\157\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 84 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\160\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 85 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\161\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 86 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\162\004\004"
+        + "\004\004\004\000\000\000",
+        // 87 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\163\004"
+        + "\004\004\004\000\000\000",
+        // 88 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\164\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 89 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\165\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 90 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\166\004\004"
+        + "\004\004\004\000\000\000",
+        // 91 FOR
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 92 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\167\004\004\170\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 93 INT
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\171\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 94 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\172\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 95 NEW
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 96 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\173\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 97 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\174\004\004\004\004\004\004"
+        + "\175\004\004\000\000\000",
+        // 98 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\176\004"
+        + "\004\004\004\000\000\000",
+        // 99 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\177\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 100 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\200\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 101 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\201"
+        + "\004\004\004\000\000\000",
+        // 102 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\202\004"
+        + "\004\004\004\000\000\000",
+        // 103 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\203\004\004"
+        + "\004\004\004\000\000\000",
+        // 104 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\204\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 105 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\205\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 106 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\206\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 107
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\207\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 108 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\210\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 109 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\211\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 110 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\212\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 111 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\213\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 112 CHAR
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 113 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\214\004\004"
+        + "\004\004\004\000\000\000",
+        // 114 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\215\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 115 ELSE
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 116 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\216\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 117 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\217\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 118 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\220\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 119 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\221\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 120 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\222\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 121 MAIN
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 122 NULL
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 123 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\223\004"
+        + "\004\004\004\000\000\000",
+        // 124 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\224\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 125 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\225\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 126 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\226\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 127 READ
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 128 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\227\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 129 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\230\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 130 THIS
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 131 TRUE
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 132 VOID
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 133 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\231\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 134
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\232\000"
+        + "\000\000\000\000\000\000",
+        // 135 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\233\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 136 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\234\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 137 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\235\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 138 BREAK
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 139 CLASS
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 140 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\236\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 141 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\237\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 142 FALSE
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 143 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\240\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 144 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\241\004"
+        + "\004\004\004\000\000\000",
+        // 145 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\242\004\004\004\004\004\004\243\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 146 PRINT
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 147 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\244\004"
+        + "\004\004\004\000\000\000",
+        // 148 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\245"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 149 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\246"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 150 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\247\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 151 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\250"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 152 WHILE
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 153
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\251\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 154 STRING
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 155 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\252"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 156 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\253\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 157 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\254"
+        + "\004\004\004\000\000\000",
+        // 158 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\255\004\004"
+        + "\004\004\004\000\000\000",
+        // 159 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\256\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 160 IMPORT
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 161 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\257\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 162 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\260\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 163 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\261\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 164 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\262\004"
+        + "\004\004\004\000\000\000",
+        // 165 PUBLIC
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 166 RETURN
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 167 STATIC
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 168 DOTLENGTH
+          "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000\000"
+        + "\000\000\000\000\000\000",
+        // 169 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\263\004"
+        + "\004\004\004\000\000\000",
+        // 170 BOOLEAN
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 171 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\264\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 172 EXTENDS
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 173 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\265\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 174 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\266"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 175 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\267\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 176 PRIVATE
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 177 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\270\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 178 ABSTRACT
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 179 CONTINUE
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 180 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\271\004"
+        + "\004\004\004\000\000\000",
+        // 181 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\272\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 182 INTERNAL
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 183 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\273\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 184 IDENTIFIER
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\274\004\004"
+        + "\004\004\004\000\000\000",
+        // 185 INTERFACE
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 186 PROTECTED
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000",
+        // 187 IMPLEMENTS
+          "\000\000\000\000\000\004\000\000\000\000\000\000\000\000\000\000"
+        + "\000\004\004\000\000\000\000\004\004\000\000\000\004\004\004\004"
+        + "\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004\004"
+        + "\004\004\004\000\000\000"
+    };
+
+    static final DFATable SCANNER = unpack();
+
+    private LexerTables() {
+    }
+
+    private static DFATable unpack() {
+        TokenType[] types = TokenType.values();
+        int[] classes = new int[CLASSES.length()];
+        for (int c = 0; c < classes.length; c++) {
+            classes[c] = CLASSES.charAt(c);
+        }
+        int[][] transitions = new int[STATE_COUNT][CLASS_COUNT];
+        TokenType[] accept = new TokenType[STATE_COUNT];
+        for (int s = 0; s < STATE_COUNT; s++) {
+            for (int cls = 0; cls < CLASS_COUNT; cls++) {
+                transitions[s][cls] = TRANSITIONS[s].charAt(cls) - 1;
+            }
+            int type = ACCEPT.charAt(s);
+            accept[s] = type == 0 ? null : types[type - 1];
+        }
+        return new DFATable(classes, 0, transitions, accept);
+    }
+}
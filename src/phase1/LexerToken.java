@@ -3,34 +3,89 @@ package phase1;
 public class LexerToken {
     private TokenType type;
     private String value;
+    private CharSource source;
+    private int offset;
+    private int length;
+    private int nameId;
     private int line;
     private int column;
 
     public LexerToken(TokenType type, String value, int line, int column) {
+        this(type, value, -1, line, column);
+    }
+
+    LexerToken(TokenType type, String value, int offset, int line, int column) {
         this.type = type;
         this.value = value;
+        this.offset = offset;
+        this.length = value.length();
+        this.nameId = -1;
         this.line = line;
         this.column = column;
     }
 
+    // Line and column are resolved from the source on first use.
+    LexerToken(TokenType type, String value, int offset, CharSource source) {
+        this(type, value, offset, 0, 0);
+        this.source = source;
+    }
+
+    // View token: the value, line and column are read from the source on first use.
+    LexerToken(TokenType type, CharSource source, int offset, int length) {
+        this.type = type;
+        this.source = source;
+        this.offset = offset;
+        this.length = length;
+        this.nameId = -1;
+    }
+
     public TokenType getType() {
         return type;
     }
 
     public String getValue() {
+        if (value == null) {
+            value = source.text(offset, offset + length);
+        }
         return value;
     }
 
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    // Id of the value in the lexer's NamePool, or -1 if the token was not pooled.
+    public int getNameId() {
+        return nameId;
+    }
+
+    void setNameId(int nameId) {
+        this.nameId = nameId;
+    }
+
     public int getLine() {
+        resolvePosition();
         return line;
     }
 
     public int getColumn() {
+        resolvePosition();
         return column;
     }
 
+    private void resolvePosition() {
+        if (line == 0 && source != null) {
+            line = source.lineOf(offset);
+            column = source.columnOf(offset);
+        }
+    }
+
     @Override
     public String toString() {
-        return String.format("Token(%s, '%s', %d:%d)", type, value, line, column);
+        return String.format("Token(%s, '%s', %d:%d)", type, getValue(), getLine(), getColumn());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,61 @@
+package phase1;
+
+import java.util.Arrays;
+
+// Sorted offsets of the first character of every line, found with one pass over the
+// text. Lines and columns are then resolved on demand with a binary search.
+final class LineIndex {
+    private final int[] lineStarts;
+    private final int count;
+
+    private LineIndex(int[] lineStarts, int count) {
+        this.lineStarts = lineStarts;
+        this.count = count;
+    }
+
+    static LineIndex of(String text) {
+        int[] starts = new int[16];
+        int count = 1;
+        int newline = text.indexOf('\n');
+        while (newline >= 0) {
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+            }
+            starts[count++] = newline + 1;
+            newline = text.indexOf('\n', newline + 1);
+        }
+        return new LineIndex(starts, count);
+    }
+
+    static LineIndex of(CharSource source, int length) {
+        int[] starts = new int[16];
+        int count = 1;
+        for (int i = 0; i < length; i++) {
+            if (source.charAt(i) == '\n') {
+                if (count == starts.length) {
+                    starts = Arrays.copyOf(starts, count * 2);
+                }
+                starts[count++] = i + 1;
+            }
+        }
+        return new LineIndex(starts, count);
+    }
+
+    int lineOf(int offset) {
+        int lo = 0;
+        int hi = count - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (lineStarts[mid] <= offset) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return lo + 1;
+    }
+
+    int columnOf(int offset) {
+        return offset - lineStarts[lineOf(offset) - 1] + 1;
+    }
+}
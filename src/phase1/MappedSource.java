@@ -0,0 +1,74 @@
+package phase1;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Scans a mapped file byte by byte. Every byte is presented as one char, which is
+// exact for the ASCII token syntax; text() decodes UTF-8 when a value is needed.
+final class MappedSource implements CharSource {
+    private final ByteBuffer buffer;
+    private final int limit;
+    private volatile LineIndex lines;
+
+    MappedSource(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.limit = buffer.limit();
+    }
+
+    @Override
+    public boolean has(int index) {
+        return index < limit;
+    }
+
+    @Override
+    public int length() {
+        return limit;
+    }
+
+    // The whole mapping, positioned independently of this source.
+    ByteBuffer bytes() {
+        return buffer.duplicate().position(0).limit(limit);
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (buffer.get(index) & 0xff);
+    }
+
+    @Override
+    public String text(int start, int end) {
+        byte[] bytes = new byte[end - start];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void release(int index) {
+    }
+
+    @Override
+    public boolean retainsInput() {
+        return true;
+    }
+
+    @Override
+    public int lineOf(int index) {
+        return lines().lineOf(index);
+    }
+
+    @Override
+    public int columnOf(int index) {
+        return lines().columnOf(index);
+    }
+
+    private LineIndex lines() {
+        LineIndex index = lines;
+        if (index == null) {
+            index = LineIndex.of(this, limit);
+            lines = index;
+        }
+        return index;
+    }
+}
@@ -0,0 +1,50 @@
+package phase1;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Intern table for one compilation. Every distinct name gets a dense int id, so equal
+// names share one String and compare as ints. Nothing is ever removed, so a pool lives
+// as long as the tokens and symbol tables that use it and is not shared between
+// unrelated compilations.
+public final class NamePool {
+    private final ConcurrentHashMap<String, Integer> ids;
+    private volatile String[] names;
+    private int size;
+
+    public NamePool() {
+        this.ids = new ConcurrentHashMap<>();
+        this.names = new String[1024];
+        this.size = 0;
+    }
+
+    public int intern(String name) {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+        return ids.computeIfAbsent(name, this::append);
+    }
+
+    // Returns the id of name, or -1 if it was never interned.
+    public int find(String name) {
+        Integer id = ids.get(name);
+        return id != null ? id : -1;
+    }
+
+    public String name(int id) {
+        return names[id];
+    }
+
+    public int size() {
+        return ids.size();
+    }
+
+    private synchronized int append(String name) {
+        if (size == names.length) {
+            names = Arrays.copyOf(names, size * 2);
+        }
+        names[size] = name;
+        return size++;
+    }
+}
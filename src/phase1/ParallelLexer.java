@@ -0,0 +1,334 @@
+package phase1;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+// Lexes fixed-size chunks of the input in parallel and stitches the results together.
+//
+// Each chunk is lexed speculatively from its first character as if a token started there,
+// and again from just after the first "*/", '"' and '\'' in the chunk, in case the chunk
+// begins inside a block comment, string or char literal. A speculative run is correct from
+// the first token that starts where the real lexer also starts a token, because the lexer
+// keeps no state between tokens. The stitch pass walks the chunks in order, adopts the
+// first run that contains the real next token start, and only re-lexes a chunk itself
+// when no run does. Value tokens are interned during the stitch pass, chunk by chunk in
+// input order, so a NamePool hands out the same ids as a sequential lex.
+final class ParallelLexer {
+    static final int MIN_CHUNK_SIZE = 64 * 1024;
+
+    private final CharSource source;
+    private final int length;
+    private final boolean lazyValues;
+    private final NamePool namePool;
+    private final Chunk[] chunks;
+
+    ParallelLexer(CharSource source, int chunkCount, boolean lazyValues, NamePool namePool) {
+        this.source = source;
+        this.length = source.length();
+        this.lazyValues = lazyValues;
+        this.namePool = namePool;
+
+        int count = Math.max(1, Math.min(chunkCount, length / MIN_CHUNK_SIZE));
+        chunks = new Chunk[count];
+        for (int i = 0; i < count; i++) {
+            int base = (int) ((long) length * i / count);
+            int limit = (int) ((long) length * (i + 1) / count);
+            chunks[i] = new Chunk(i, base, limit);
+        }
+    }
+
+    List<LexerToken> tokenize(ForkJoinPool pool) {
+        List<RecursiveAction> runs = new ArrayList<>();
+        for (Chunk chunk : chunks) {
+            runs.add(action(chunk::lexSpeculatively));
+        }
+        pool.invoke(action(() -> ForkJoinTask.invokeAll(runs)));
+
+        // The first chunk starts at the real start of the input, so its run is exact.
+        Chunk first = chunks[0];
+        first.adoptRun(first.normal, 0);
+        first.intern();
+        int nextStart = first.nextStart;
+        int total = first.tokenCount();
+
+        for (int i = 1; i < chunks.length; i++) {
+            Chunk chunk = chunks[i];
+            chunk.outputIndex = total;
+            if (nextStart >= chunk.limit) {
+                continue;
+            }
+            chunk.stitch(nextStart);
+            chunk.intern();
+            total += chunk.tokenCount();
+            nextStart = chunk.nextStart;
+        }
+
+        LexerToken[] tokens = new LexerToken[total + 1];
+        List<RecursiveAction> fills = new ArrayList<>();
+        for (Chunk chunk : chunks) {
+            fills.add(action(() -> chunk.fill(tokens)));
+        }
+        pool.invoke(action(() -> ForkJoinTask.invokeAll(fills)));
+        tokens[total] = new LexerToken(TokenType.EOF, "", nextStart, source);
+
+        return Arrays.asList(tokens);
+    }
+
+    private LexerToken token(TokenType type, int offset, int length, int nameId) {
+        if (nameId >= 0) {
+            LexerToken token = new LexerToken(type, namePool.name(nameId), offset, source);
+            token.setNameId(nameId);
+            return token;
+        }
+        if (lazyValues) {
+            return new LexerToken(type, source, offset, length);
+        }
+        return new LexerToken(type, source.text(offset, offset + length), offset, source);
+    }
+
+    private static RecursiveAction action(Runnable body) {
+        return new RecursiveAction() {
+            @Override
+            protected void compute() {
+                body.run();
+            }
+        };
+    }
+
+    // Tokens of one lexing pass. Offsets are absolute, so tokens need no fixing up
+    // once a run is adopted; lines and columns come from the source's line index.
+    private static final class Run {
+        final TokenBuffer tokens;
+        int mergeIndex = -1;
+        int nextStart;
+
+        Run(CharSource source) {
+            this.tokens = new TokenBuffer(source);
+        }
+
+        int find(int offset) {
+            int lo = 0;
+            int hi = tokens.size() - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                int start = tokens.getOffset(mid);
+                if (start < offset) {
+                    lo = mid + 1;
+                } else if (start > offset) {
+                    hi = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private final class Chunk {
+        final int index;
+        final int base;
+        final int limit;
+
+        Run normal;
+        final List<Run> alternates = new ArrayList<>();
+
+        // Stitch result: real tokens re-lexed here, followed by a slice of one run.
+        Run fixed;
+        Run adopted;
+        int adoptedFrom;
+        int outputIndex;
+        int nextStart;
+
+        // Pool ids of the chunk's output tokens, -1 for tokens without a value; null
+        // without a pool.
+        int[] nameIds;
+
+        Chunk(int index, int base, int limit) {
+            this.index = index;
+            this.base = base;
+            this.limit = limit;
+        }
+
+        void lexSpeculatively() {
+            normal = lex(base, null);
+            if (index == 0) {
+                return;
+            }
+
+            int comment = indexOf("*/");
+            if (comment >= 0) {
+                alternates.add(lexFrom(comment + 2));
+            }
+            int string = indexOf("\"");
+            if (string >= 0) {
+                alternates.add(lexFrom(string + 1));
+            }
+            int character = indexOf("'");
+            if (character >= 0) {
+                alternates.add(lexFrom(character + 1));
+            }
+        }
+
+        private Run lexFrom(int start) {
+            return lex(start, normal);
+        }
+
+        // Lexes until a token starts at or past the limit, or, for alternates, until
+        // a token starts where the normal run has one.
+        private Run lex(int start, Run mergeWith) {
+            Run run = new Run(source);
+            Lexer lexer = new Lexer(source, start);
+            int cursor = 0;
+
+            while (true) {
+                TokenType type = lexer.scanToken();
+                int tokenStart = lexer.getTokenStart();
+
+                if (type == TokenType.EOF || tokenStart >= limit) {
+                    run.nextStart = tokenStart;
+                    return run;
+                }
+
+                if (mergeWith != null) {
+                    TokenBuffer other = mergeWith.tokens;
+                    while (cursor < other.size() && other.getOffset(cursor) < tokenStart) {
+                        cursor++;
+                    }
+                    if (cursor < other.size() && other.getOffset(cursor) == tokenStart) {
+                        run.mergeIndex = cursor;
+                        return run;
+                    }
+                }
+
+                run.tokens.add(type, tokenStart, lexer.getTokenEnd() - tokenStart);
+            }
+        }
+
+        private int indexOf(String delimiter) {
+            for (int i = base; i < limit; i++) {
+                int j = 0;
+                while (j < delimiter.length() && source.has(i + j) && source.charAt(i + j) == delimiter.charAt(j)) {
+                    j++;
+                }
+                if (j == delimiter.length()) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void stitch(int start) {
+            if (adopt(start)) {
+                return;
+            }
+
+            fixed = new Run(source);
+            Lexer lexer = new Lexer(source, start);
+
+            while (true) {
+                TokenType type = lexer.scanToken();
+                int tokenStart = lexer.getTokenStart();
+
+                if (type == TokenType.EOF || tokenStart >= limit) {
+                    nextStart = tokenStart;
+                    return;
+                }
+
+                if (adopt(tokenStart)) {
+                    return;
+                }
+
+                fixed.tokens.add(type, tokenStart, lexer.getTokenEnd() - tokenStart);
+            }
+        }
+
+        private boolean adopt(int start) {
+            int found = normal.find(start);
+            if (found >= 0) {
+                adoptRun(normal, found);
+                return true;
+            }
+
+            for (Run alternate : alternates) {
+                found = alternate.find(start);
+                if (found >= 0) {
+                    adoptRun(alternate, found);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void adoptRun(Run run, int from) {
+            adopted = run;
+            adoptedFrom = from;
+            Run last = run.mergeIndex >= 0 ? normal : run;
+            nextStart = last.nextStart;
+        }
+
+        int tokenCount() {
+            int count = fixed != null ? fixed.tokens.size() : 0;
+            if (adopted != null) {
+                count += adopted.tokens.size() - adoptedFrom;
+                if (adopted.mergeIndex >= 0) {
+                    count += normal.tokens.size() - adopted.mergeIndex;
+                }
+            }
+            return count;
+        }
+
+        // Runs on the stitching thread, one chunk after another in input order.
+        void intern() {
+            if (namePool == null) {
+                return;
+            }
+            nameIds = new int[tokenCount()];
+            int at = 0;
+            if (fixed != null) {
+                at = intern(at, fixed.tokens, 0);
+            }
+            if (adopted != null) {
+                at = intern(at, adopted.tokens, adoptedFrom);
+                if (adopted.mergeIndex >= 0) {
+                    intern(at, normal.tokens, adopted.mergeIndex);
+                }
+            }
+        }
+
+        private int intern(int at, TokenBuffer tokens, int from) {
+            for (int i = from; i < tokens.size(); i++) {
+                int offset = tokens.getOffset(i);
+                nameIds[at++] = Lexer.isValueType(tokens.getType(i))
+                    ? namePool.intern(source.text(offset, offset + tokens.getLength(i)))
+                    : -1;
+            }
+            return at;
+        }
+
+        void fill(LexerToken[] out) {
+            int at = 0;
+            if (fixed != null) {
+                at = fill(out, at, fixed.tokens, 0);
+            }
+            if (adopted != null) {
+                at = fill(out, at, adopted.tokens, adoptedFrom);
+                if (adopted.mergeIndex >= 0) {
+                    fill(out, at, normal.tokens, adopted.mergeIndex);
+                }
+            }
+        }
+
+        // at counts this chunk's output tokens.
+        private int fill(LexerToken[] out, int at, TokenBuffer tokens, int from) {
+            for (int i = from; i < tokens.size(); i++) {
+                int nameId = nameIds != null ? nameIds[at] : -1;
+                out[outputIndex + at++] = token(tokens.getType(i), tokens.getOffset(i), tokens.getLength(i), nameId);
+            }
+            return at;
+        }
+    }
+}
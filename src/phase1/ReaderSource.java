@@ -0,0 +1,150 @@
+package phase1;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+// Sliding window over a Reader. Only the characters from the last released index
+// onward are kept, so memory is bounded by the buffer size or the longest token.
+// Newlines are recorded as chunks are read; those that fall out of the window only
+// leave behind a count and the position of the last one.
+final class ReaderSource implements CharSource {
+    static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private char[] buffer;
+    private int base;
+    private int count;
+    private int released;
+    private boolean eof;
+
+    private int[] newlines;
+    private int newlineCount;
+    private int droppedNewlines;
+    private int lastDroppedNewline;
+
+    ReaderSource(Reader reader, int bufferSize) {
+        if (bufferSize < 16) {
+            throw new IllegalArgumentException("Buffer size too small: " + bufferSize);
+        }
+        this.reader = reader;
+        this.buffer = new char[bufferSize];
+        this.newlines = new int[64];
+        this.lastDroppedNewline = -1;
+    }
+
+    @Override
+    public boolean has(int index) {
+        while (index >= base + count) {
+            if (eof || !fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int length() {
+        return eof ? base + count : -1;
+    }
+
+    @Override
+    public char charAt(int index) {
+        return buffer[index - base];
+    }
+
+    @Override
+    public String text(int start, int end) {
+        return new String(buffer, start - base, end - start);
+    }
+
+    @Override
+    public void release(int index) {
+        released = index;
+    }
+
+    @Override
+    public boolean retainsInput() {
+        return false;
+    }
+
+    @Override
+    public int lineOf(int index) {
+        return droppedNewlines + newlinesBefore(index) + 1;
+    }
+
+    @Override
+    public int columnOf(int index) {
+        int before = newlinesBefore(index);
+        int lastNewline = before > 0 ? newlines[before - 1] : lastDroppedNewline;
+        return index - lastNewline;
+    }
+
+    private int newlinesBefore(int index) {
+        int lo = 0;
+        int hi = newlineCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (newlines[mid] < index) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean fill() {
+        if (count == buffer.length) {
+            int keep = base + count - released;
+            if (keep < buffer.length / 2) {
+                System.arraycopy(buffer, released - base, buffer, 0, keep);
+                base = released;
+                count = keep;
+                dropNewlinesBefore(base);
+            } else {
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+
+        try {
+            int read = reader.read(buffer, count, buffer.length - count);
+            if (read < 0) {
+                eof = true;
+                return false;
+            }
+            for (int i = count; i < count + read; i++) {
+                if (buffer[i] == '\n') {
+                    addNewline(base + i);
+                }
+            }
+            count += read;
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void addNewline(int position) {
+        if (newlineCount == newlines.length) {
+            newlines = Arrays.copyOf(newlines, newlineCount * 2);
+        }
+        newlines[newlineCount++] = position;
+    }
+
+    private void dropNewlinesBefore(int index) {
+        int dropped = newlinesBefore(index);
+        if (dropped == 0) {
+            return;
+        }
+        lastDroppedNewline = newlines[dropped - 1];
+        droppedNewlines += dropped;
+        newlineCount -= dropped;
+        System.arraycopy(newlines, dropped, newlines, 0, newlineCount);
+    }
+}
@@ -0,0 +1,58 @@
+package phase1;
+
+final class StringSource implements CharSource {
+    private final String input;
+    private volatile LineIndex lines;
+
+    StringSource(String input) {
+        this.input = input;
+    }
+
+    @Override
+    public boolean has(int index) {
+        return index < input.length();
+    }
+
+    @Override
+    public int length() {
+        return input.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return input.charAt(index);
+    }
+
+    @Override
+    public String text(int start, int end) {
+        return input.substring(start, end);
+    }
+
+    @Override
+    public void release(int index) {
+    }
+
+    @Override
+    public boolean retainsInput() {
+        return true;
+    }
+
+    @Override
+    public int lineOf(int index) {
+        return lines().lineOf(index);
+    }
+
+    @Override
+    public int columnOf(int index) {
+        return lines().columnOf(index);
+    }
+
+    private LineIndex lines() {
+        LineIndex index = lines;
+        if (index == null) {
+            index = LineIndex.of(input);
+            lines = index;
+        }
+        return index;
+    }
+}
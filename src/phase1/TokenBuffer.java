@@ -0,0 +1,130 @@
+package phase1;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+// Struct-of-arrays token storage. Values, lines and columns are not stored; they are
+// read back from the source on request. get(i) builds a LexerToken view for callers that need objects.
+public class TokenBuffer extends AbstractList<LexerToken> implements RandomAccess {
+    private static final TokenType[] TYPES = TokenType.values();
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final CharSource source;
+    private final NamePool namePool;
+    private byte[] types;
+    private int[] offsets;
+    private int[] lengths;
+    private int[] nameIds;
+    private int size;
+
+    TokenBuffer(CharSource source) {
+        this(source, null);
+    }
+
+    TokenBuffer(CharSource source, NamePool namePool) {
+        this(source, namePool, INITIAL_CAPACITY);
+    }
+
+    TokenBuffer(CharSource source, NamePool namePool, int capacity) {
+        capacity = Math.max(capacity, 1);
+        this.source = source;
+        this.namePool = namePool;
+        this.types = new byte[capacity];
+        this.offsets = new int[capacity];
+        this.lengths = new int[capacity];
+        this.nameIds = namePool != null ? new int[capacity] : null;
+        this.size = 0;
+    }
+
+    void add(TokenType type, int offset, int length) {
+        add(type, offset, length, -1);
+    }
+
+    void add(TokenType type, int offset, int length, int nameId) {
+        if (size == types.length) {
+            int capacity = size * 2;
+            types = Arrays.copyOf(types, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            if (nameIds != null) {
+                nameIds = Arrays.copyOf(nameIds, capacity);
+            }
+        }
+        types[size] = (byte) type.ordinal();
+        offsets[size] = offset;
+        lengths[size] = length;
+        if (nameIds != null) {
+            nameIds[size] = nameId;
+        }
+        size++;
+    }
+
+    // Adds the number of tokens of each type to counts, indexed by ordinal.
+    void countTypes(int[] counts) {
+        for (int i = 0; i < size; i++) {
+            counts[types[i]]++;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public LexerToken get(int index) {
+        checkIndex(index);
+        TokenType type = TYPES[types[index]];
+        if (nameIds != null && nameIds[index] >= 0) {
+            LexerToken token = new LexerToken(type, namePool.name(nameIds[index]), offsets[index], source);
+            token.setNameId(nameIds[index]);
+            return token;
+        }
+        return new LexerToken(type, source, offsets[index], lengths[index]);
+    }
+
+    public TokenType getType(int index) {
+        checkIndex(index);
+        return TYPES[types[index]];
+    }
+
+    public String getValue(int index) {
+        checkIndex(index);
+        if (nameIds != null && nameIds[index] >= 0) {
+            return namePool.name(nameIds[index]);
+        }
+        return source.text(offsets[index], offsets[index] + lengths[index]);
+    }
+
+    public int getNameId(int index) {
+        checkIndex(index);
+        return nameIds != null ? nameIds[index] : -1;
+    }
+
+    public int getOffset(int index) {
+        checkIndex(index);
+        return offsets[index];
+    }
+
+    public int getLength(int index) {
+        checkIndex(index);
+        return lengths[index];
+    }
+
+    public int getLine(int index) {
+        checkIndex(index);
+        return source.lineOf(offsets[index]);
+    }
+
+    public int getColumn(int index) {
+        checkIndex(index);
+        return source.columnOf(offsets[index]);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Token index " + index + " out of bounds for size " + size);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package phase1;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+// Directory of lexer output keyed by the SHA-256 of the source characters and the
+// scanner tables. A hit maps the entry and replays the tokens into a TokenBuffer
+// without scanning; unreadable or stale entries count as misses and are rewritten.
+//
+// Entry layout, all counts and offsets as unsigned LEB128 varints:
+//   magic "JMTC", version byte, source length
+//   string count, string table size in bytes, then per string its UTF-8 length and bytes
+//   token count, then per token its type ordinal byte and the gap since the previous
+//   token's end; identifier, literal and error tokens add their length and string index
+public final class TokenCache {
+    private static final int MAGIC = 0x4A4D5443;
+    private static final int VERSION = 1;
+    private static final TokenType[] TYPES = TokenType.values();
+    private static final int SCANNER_FINGERPRINT = LexerTables.SCANNER.fingerprint();
+
+    private final Path directory;
+
+    public TokenCache(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    // Null when there is no usable entry for this input. key is key(input), computed
+    // once by the caller for both load() and a store() after a miss.
+    TokenBuffer load(String key, CharSource input, NamePool namePool) {
+        Path file = entry(key);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return replay(new Entry(mapped), input, namePool);
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    // A cache must never fail the compilation, so write errors only cost the entry.
+    void store(String key, CharSource input, TokenBuffer tokens) {
+        Path file = entry(key);
+        try {
+            Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    out.write(encode(input, tokens));
+                }
+                try {
+                    Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            // Leave the entry missing; the next run scans and tries again.
+        }
+    }
+
+    private static TokenBuffer replay(Entry in, CharSource input, NamePool namePool) {
+        if (in.readInt() != MAGIC || in.readByte() != VERSION || in.readVarint() != input.length()) {
+            return null;
+        }
+
+        // Values are only decoded for a name pool, and then once per distinct string
+        // however many tokens repeat it; otherwise the table is skipped.
+        int stringCount = in.readVarint();
+        int tableSize = in.readVarint();
+        int[] stringStarts = new int[namePool != null ? stringCount : 0];
+        int[] nameIds = new int[stringStarts.length];
+        if (namePool != null) {
+            for (int i = 0; i < stringCount; i++) {
+                stringStarts[i] = in.pos;
+                int length = in.readVarint();
+                in.pos += length;
+            }
+            Arrays.fill(nameIds, -1);
+        } else {
+            in.pos += tableSize;
+        }
+
+        int count = in.readVarint();
+        TokenBuffer buffer = new TokenBuffer(input, namePool, count);
+        int end = 0;
+        TokenType type = null;
+        for (int i = 0; i < count; i++) {
+            type = TYPES[in.readByte()];
+            int offset = end + in.readVarint();
+            int length;
+            int nameId = -1;
+            String spelling = Lexer.spelling(type);
+            if (spelling != null) {
+                length = spelling.length();
+            } else if (type == TokenType.EOF) {
+                length = 0;
+            } else {
+                length = in.readVarint();
+                int index = in.readVarint();
+                if (namePool != null && Lexer.isValueType(type)) {
+                    if (nameIds[index] < 0) {
+                        nameIds[index] = namePool.intern(in.readString(stringStarts[index]));
+                    }
+                    nameId = nameIds[index];
+                }
+            }
+            buffer.add(type, offset, length, nameId);
+            end = offset + length;
+        }
+
+        if (type != TokenType.EOF || end != input.length() || in.pos != in.data.limit()) {
+            return null;
+        }
+        return buffer;
+    }
+
+    private static byte[] encode(CharSource input, TokenBuffer tokens) {
+        Map<String, Integer> indexes = new HashMap<>();
+        ByteArrayOutputStream strings = new ByteArrayOutputStream();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(tokens.size() * 2);
+
+        int end = 0;
+        for (int i = 0; i < tokens.size(); i++) {
+            TokenType type = tokens.getType(i);
+            int offset = tokens.getOffset(i);
+            body.write(type.ordinal());
+            writeVarint(body, offset - end);
+            if (Lexer.spelling(type) == null && type != TokenType.EOF) {
+                String value = tokens.getValue(i);
+                Integer index = indexes.get(value);
+                if (index == null) {
+                    index = indexes.size();
+                    indexes.put(value, index);
+                    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    writeVarint(strings, bytes.length);
+                    strings.write(bytes, 0, bytes.length);
+                }
+                writeVarint(body, tokens.getLength(i));
+                writeVarint(body, index);
+            }
+            end = offset + tokens.getLength(i);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(strings.size() + body.size() + 32);
+        out.write(MAGIC >>> 24);
+        out.write(MAGIC >>> 16);
+        out.write(MAGIC >>> 8);
+        out.write(MAGIC);
+        out.write(VERSION);
+        writeVarint(out, input.length());
+        writeVarint(out, indexes.size());
+        writeVarint(out, strings.size());
+        out.write(strings.toByteArray(), 0, strings.size());
+        writeVarint(out, tokens.size());
+        out.write(body.toByteArray(), 0, body.size());
+        return out.toByteArray();
+    }
+
+    private Path entry(String key) {
+        return directory.resolve(key + ".tok");
+    }
+
+    // Mapped files hash their raw bytes. Other sources hash the characters the lexer
+    // sees, each as its one- to three-byte UTF-8 form, which keeps ASCII text at one
+    // byte per char and stays unambiguous for lone surrogates. The kind is part of the
+    // key because a file and a string of the same text count offsets differently.
+    static String key(CharSource input) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        byte[] chunk = new byte[8192 + 3];
+        int fill = 0;
+        putInt(chunk, 0, SCANNER_FINGERPRINT);
+        putInt(chunk, 4, TYPES.length);
+        putInt(chunk, 8, VERSION);
+        chunk[12] = (byte) (input instanceof MappedSource ? 'M' : 'C');
+        digest.update(chunk, 0, 13);
+
+        if (input instanceof MappedSource) {
+            digest.update(((MappedSource) input).bytes());
+            return hex(digest.digest());
+        }
+
+        int length = input.length();
+        for (int i = 0; i < length; i++) {
+            char c = input.charAt(i);
+            if (c < 0x80) {
+                chunk[fill++] = (byte) c;
+            } else if (c < 0x800) {
+                chunk[fill++] = (byte) (0xc0 | c >>> 6);
+                chunk[fill++] = (byte) (0x80 | c & 0x3f);
+            } else {
+                chunk[fill++] = (byte) (0xe0 | c >>> 12);
+                chunk[fill++] = (byte) (0x80 | c >>> 6 & 0x3f);
+                chunk[fill++] = (byte) (0x80 | c & 0x3f);
+            }
+            if (fill >= 8192) {
+                digest.update(chunk, 0, fill);
+                fill = 0;
+            }
+        }
+        digest.update(chunk, 0, fill);
+        return hex(digest.digest());
+    }
+
+    private static String hex(byte[] hash) {
+        StringBuilder hex = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            hex.append(Character.forDigit((b >>> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return hex.toString();
+    }
+
+    private static void putInt(byte[] bytes, int at, int value) {
+        bytes[at] = (byte) (value >>> 24);
+        bytes[at + 1] = (byte) (value >>> 16);
+        bytes[at + 2] = (byte) (value >>> 8);
+        bytes[at + 3] = (byte) value;
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7f) != 0) {
+            out.write((value & 0x7f) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    // Read position in an entry, decoded in place from the mapping with absolute gets.
+    // Reads past the end throw, which load() treats like any other damaged entry.
+    private static final class Entry {
+        final ByteBuffer data;
+        int pos;
+
+        Entry(ByteBuffer data) {
+            this.data = data;
+        }
+
+        int readByte() {
+            return data.get(pos++);
+        }
+
+        int readInt() {
+            int value = data.getInt(pos);
+            pos += 4;
+            return value;
+        }
+
+        int readVarint() {
+            byte first = data.get(pos++);
+            if (first >= 0) {
+                return first;
+            }
+            int value = first & 0x7f;
+            for (int shift = 7; shift < 35; shift += 7) {
+                byte b = data.get(pos++);
+                value |= (b & 0x7f) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IllegalStateException("Malformed varint");
+        }
+
+        // Only the string's own bytes are copied out.
+        String readString(int at) {
+            int saved = pos;
+            pos = at;
+            int length = readVarint();
+            byte[] bytes = new byte[length];
+            data.duplicate().position(pos).get(bytes);
+            pos = saved;
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package phase1;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Pull-based alternative to Lexer.tokenize(). Tokens are produced one at a time, ending
+// with a single EOF token. Readers are scanned through a bounded buffer, so memory does
+// not grow with input size; for strings only the token list is avoided.
+public class TokenStream implements Iterator<LexerToken>, Closeable {
+    private final CharSource source;
+    private final Lexer lexer;
+    private final LexerEvent event = new LexerEvent();
+    private int tokenCount;
+    private boolean finished;
+
+    public TokenStream(Reader reader) {
+        this(reader, ReaderSource.DEFAULT_BUFFER_SIZE);
+    }
+
+    public TokenStream(Reader reader, int bufferSize) {
+        this.source = new ReaderSource(reader, bufferSize);
+        this.lexer = new Lexer(source);
+        this.finished = false;
+        event.begin();
+    }
+
+    public TokenStream(String input) {
+        this.source = new StringSource(input);
+        this.lexer = new Lexer(source);
+        this.finished = false;
+        event.begin();
+    }
+
+    public TokenStream(ReadableByteChannel channel) {
+        this(Channels.newReader(channel, StandardCharsets.UTF_8.newDecoder(), ReaderSource.DEFAULT_BUFFER_SIZE));
+    }
+
+    public void setNamePool(NamePool namePool) {
+        lexer.setNamePool(namePool);
+    }
+
+    // Names the input in the Flight Recorder event committed at EOF or close().
+    public void setSourceName(String sourceName) {
+        lexer.setSourceName(sourceName);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !finished;
+    }
+
+    @Override
+    public LexerToken next() {
+        if (finished) {
+            throw new NoSuchElementException();
+        }
+
+        LexerToken token = lexer.next();
+        tokenCount++;
+        if (token.getType() == TokenType.EOF) {
+            finished = true;
+            lexer.finishStream(event, tokenCount);
+        }
+        return token;
+    }
+
+    @Override
+    public void close() {
+        if (!finished) {
+            lexer.finishStream(event, tokenCount);
+        }
+        finished = true;
+        if (!(source instanceof ReaderSource)) {
+            return;
+        }
+        try {
+            ((ReaderSource) source).close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
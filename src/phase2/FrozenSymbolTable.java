@@ -0,0 +1,243 @@
+package phase2;
+
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import phase1.NamePool;
+
+// Read-only snapshot of a SymbolTable tree in flat primitive arrays. Scopes are numbered
+// in pre-order from 0, the frozen root, so every subtree is the index range
+// [scope, getSubtreeEnd(scope)); symbols are stored scope by scope in the same order, so
+// a subtree's symbols are one range too. Scopes and symbols are addressed by index and
+// -1 stands for none. Lookups walk parents inside the snapshot only.
+public final class FrozenSymbolTable {
+    private static final int LINEAR_LIMIT = 8;
+
+    // The pool of the tree this was frozen from, which the name ids refer to.
+    private final NamePool namePool;
+
+    private final String[] scopeNames;
+    private final int[] scopeParents;
+    private final int[] scopeLevels;
+    private final int[] scopeEnds;
+    private final int[] symbolStarts;
+    private final long[] scopeFilters;
+
+    private final int[] nameIds;
+    private final int[] flags;
+    private final int[] lines;
+    private final int[] columns;
+    private final int[] localScopes;
+
+    // Open-addressing index over (scope, name id) for scopes too large to scan; each
+    // slot holds a symbol index plus one, 0 for free.
+    private final int[] index;
+
+    FrozenSymbolTable(SymbolTable root) {
+        int scopeCount = root.getScopeCount();
+        int symbolCount = root.getTotalSymbolCount();
+        namePool = root.getNamePool();
+        scopeNames = new String[scopeCount];
+        scopeParents = new int[scopeCount];
+        scopeLevels = new int[scopeCount];
+        scopeEnds = new int[scopeCount];
+        symbolStarts = new int[scopeCount + 1];
+        scopeFilters = new long[scopeCount];
+        nameIds = new int[symbolCount];
+        flags = new int[symbolCount];
+        lines = new int[symbolCount];
+        columns = new int[symbolCount];
+        localScopes = new int[symbolCount];
+
+        Map<SymbolTable, Integer> scopeIndexes = new IdentityHashMap<>();
+        Symbol[] symbols = new Symbol[symbolCount];
+        int[] counts = new int[2];
+        flatten(root, -1, symbols, scopeIndexes, counts);
+
+        int indexed = 0;
+        for (int scope = 0; scope < scopeCount; scope++) {
+            int size = symbolStarts[scope + 1] - symbolStarts[scope];
+            if (size > LINEAR_LIMIT) {
+                indexed += size;
+            }
+        }
+        index = indexed > 0 ? new int[Integer.highestOneBit(indexed * 4 - 1)] : null;
+
+        for (int scope = 0; scope < scopeCount; scope++) {
+            boolean large = symbolStarts[scope + 1] - symbolStarts[scope] > LINEAR_LIMIT;
+            for (int i = symbolStarts[scope]; i < symbolStarts[scope + 1]; i++) {
+                Symbol symbol = symbols[i];
+                flags[i] = symbol.getFlags();
+                lines[i] = symbol.getLine();
+                columns[i] = symbol.getColumn();
+                Integer local = symbol.getLocalScope() != null ? scopeIndexes.get(symbol.getLocalScope()) : null;
+                localScopes[i] = local != null ? local : -1;
+                scopeFilters[scope] |= SymbolTable.filterBits(nameIds[i]);
+                if (large) {
+                    insertIntoIndex(scope, i);
+                }
+            }
+        }
+    }
+
+    private void flatten(SymbolTable table, int parent, Symbol[] symbols,
+                         Map<SymbolTable, Integer> scopeIndexes, int[] counts) {
+        int scope = counts[0]++;
+        scopeIndexes.put(table, scope);
+        scopeNames[scope] = table.getScopeName();
+        scopeParents[scope] = parent;
+        scopeLevels[scope] = table.getScopeLevel();
+        symbolStarts[scope] = counts[1];
+        SymbolMap map = table.getSymbolMap();
+        for (int i = 0; i < map.size(); i++) {
+            nameIds[counts[1]] = map.idAt(i);
+            symbols[counts[1]++] = map.at(i);
+        }
+        symbolStarts[scope + 1] = counts[1];
+
+        for (SymbolTable child : table.getChildren()) {
+            flatten(child, scope, symbols, scopeIndexes, counts);
+        }
+        scopeEnds[scope] = counts[0];
+        symbolStarts[counts[0]] = counts[1];
+    }
+
+    public int getScopeCount() { return scopeParents.length; }
+    public int getSymbolCount() { return nameIds.length; }
+
+    public NamePool getNamePool() { return namePool; }
+    public String getScopeName(int scope) { return scopeNames[scope]; }
+    public int getParent(int scope) { return scopeParents[scope]; }
+    public int getScopeLevel(int scope) { return scopeLevels[scope]; }
+    public int getSubtreeEnd(int scope) { return scopeEnds[scope]; }
+
+    public int getFirstChild(int scope) {
+        return scope + 1 < scopeEnds[scope] ? scope + 1 : -1;
+    }
+
+    public int getNextSibling(int scope) {
+        int parent = scopeParents[scope];
+        return parent >= 0 && scopeEnds[scope] < scopeEnds[parent] ? scopeEnds[scope] : -1;
+    }
+
+    // Symbols declared directly in scope are [getSymbolStart(scope), getSymbolEnd(scope)).
+    public int getSymbolStart(int scope) { return symbolStarts[scope]; }
+    public int getSymbolEnd(int scope) { return symbolStarts[scope + 1]; }
+
+    public int getTotalSymbolCount(int scope) {
+        return symbolStarts[scopeEnds[scope]] - symbolStarts[scope];
+    }
+
+    public int getNameId(int symbol) { return nameIds[symbol]; }
+    public String getName(int symbol) { return namePool.name(nameIds[symbol]); }
+    public Symbol.Type getSymbolType(int symbol) { return Symbol.typeOf(flags[symbol]); }
+    public String getDataType(int symbol) { return Symbol.dataTypeOf(flags[symbol]); }
+    public int getLine(int symbol) { return lines[symbol]; }
+    public int getColumn(int symbol) { return columns[symbol]; }
+    public int getLocalScope(int symbol) { return localScopes[symbol]; }
+    int getFlags(int symbol) { return flags[symbol]; }
+
+    // A detached copy of the symbol; its local scope is left unset.
+    public Symbol getSymbol(int symbol) {
+        return new Symbol(getName(symbol), flags[symbol], lines[symbol], columns[symbol]);
+    }
+
+    public int lookup(int scope, String name) {
+        int nameId = namePool.find(name);
+        return nameId >= 0 ? lookup(scope, nameId) : -1;
+    }
+
+    public int lookup(int scope, int nameId) {
+        long bits = SymbolTable.filterBits(nameId);
+        for (; scope >= 0; scope = scopeParents[scope]) {
+            if ((scopeFilters[scope] & bits) == bits) {
+                int symbol = find(scope, nameId);
+                if (symbol >= 0) {
+                    return symbol;
+                }
+            }
+        }
+        return -1;
+    }
+
+    public int lookupLocal(int scope, String name) {
+        int nameId = namePool.find(name);
+        return nameId >= 0 ? lookupLocal(scope, nameId) : -1;
+    }
+
+    public int lookupLocal(int scope, int nameId) {
+        long bits = SymbolTable.filterBits(nameId);
+        return (scopeFilters[scope] & bits) == bits ? find(scope, nameId) : -1;
+    }
+
+    public int[] getSymbolsByType(int scope, Symbol.Type type) {
+        int[] result = new int[symbolStarts[scope + 1] - symbolStarts[scope]];
+        int count = 0;
+        for (int i = symbolStarts[scope]; i < symbolStarts[scope + 1]; i++) {
+            if (Symbol.typeOf(flags[i]) == type) {
+                result[count++] = i;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    // Same output as SymbolTable.printTable on the tree this was frozen from.
+    public void printTable(PrintStream out) {
+        for (int scope = 0; scope < getScopeCount(); scope++) {
+            String indent = "  ".repeat(scopeLevels[scope] - scopeLevels[0]);
+            out.println(indent + "=== " + getScopeName(scope) + " (Level " + scopeLevels[scope] + ") ===");
+            out.println(indent + String.format("%-15s %-12s %-12s %-8s %s",
+                "Name", "Type", "DataType", "Access", "Details"));
+            out.println(indent + "-".repeat(70));
+
+            if (symbolStarts[scope] == symbolStarts[scope + 1]) {
+                out.println(indent + "No symbols in this scope");
+            } else {
+                for (int i = symbolStarts[scope]; i < symbolStarts[scope + 1]; i++) {
+                    out.println(indent + getSymbol(i).toString());
+                }
+            }
+
+            out.println();
+        }
+    }
+
+    private int find(int scope, int nameId) {
+        int start = symbolStarts[scope];
+        int end = symbolStarts[scope + 1];
+        if (end - start <= LINEAR_LIMIT) {
+            for (int i = start; i < end; i++) {
+                if (nameIds[i] == nameId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int mask = index.length - 1;
+        for (int slot = hash(scope, nameId) & mask; ; slot = (slot + 1) & mask) {
+            int entry = index[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            if (nameIds[entry - 1] == nameId && entry - 1 >= start && entry - 1 < end) {
+                return entry - 1;
+            }
+        }
+    }
+
+    private void insertIntoIndex(int scope, int symbol) {
+        int mask = index.length - 1;
+        int slot = hash(scope, nameIds[symbol]) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = symbol + 1;
+    }
+
+    private static int hash(int scope, int nameId) {
+        int hash = nameId * 0x9E3779B9 + scope * 0x85EBCA6B;
+        return hash ^ (hash >>> 16);
+    }
+}
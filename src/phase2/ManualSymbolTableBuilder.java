@@ -1,48 +1,497 @@
 package phase2;
 
+import java.io.PrintStream;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import phase1.*;
 
 public class ManualSymbolTableBuilder {
+    private final NamePool namePool;
     private SymbolTable globalScope;
     private SymbolTable currentScope;
-    private List<LexerToken> tokens;
+    private TokenBuffer tokens;
     private int currentToken;
     
+    // Fused mode: tokens are pulled from the stream as the parser reaches them and kept
+    // in a ring holding the current token and one token of lookahead, so the complete
+    // token list never exists.
+    private TokenStream stream;
+    private final LexerToken[] lookahead = new LexerToken[2];
+    private int lookaheadStart;
+    private int lookaheadCount;
+    private int pulledTokens;
+    private int lastOffset;
+    private String sourceName;
+    private PrintStream errorStream;
+    private Exception error;
+    
+    // Where tokens[0] sits in the whole source while rebuildSymbolTable parses a body
+    // lexed on its own: added to token offsets, to lines, and to columns on its line.
+    private int baseOffset;
+    private int baseLine;
+    private int baseColumn;
+    
     public ManualSymbolTableBuilder() {
-        globalScope = new SymbolTable("Global", null);
+        this(new NamePool());
+    }
+    
+    // The tables built here intern their declared names in namePool. The builder's own
+    // lexers do not pool, so literal text never enters it.
+    public ManualSymbolTableBuilder(NamePool namePool) {
+        this.namePool = namePool;
+        globalScope = new SymbolTable("Global", null, namePool);
         currentScope = globalScope;
         currentToken = 0;
+        errorStream = System.err;
+    }
+    
+    // Names the input in Flight Recorder events.
+    public void setSourceName(String sourceName) {
+        this.sourceName = sourceName;
+    }
+    
+    // Where a failed build is reported; null reports nothing. getError() returns the
+    // failure either way.
+    public void setErrorStream(PrintStream errorStream) {
+        this.errorStream = errorStream;
+    }
+    
+    public Exception getError() {
+        return error;
     }
     
     public SymbolTable buildSymbolTable(String code) {
+        TokenStream tokenStream = new TokenStream(code);
+        tokenStream.setSourceName(sourceName);
         try {
-            Lexer lexer = new Lexer(code);
-            tokens = lexer.tokenize();
-            currentToken = 0;
-            
-            parseProgram();
+            return buildSymbolTable(tokenStream);
+        } finally {
+            tokenStream.close();
+        }
+    }
+    
+    // Fused mode: lexes and parses in one pass.
+    public SymbolTable buildSymbolTable(TokenStream tokenStream) {
+        tokens = null;
+        stream = tokenStream;
+        lookaheadStart = 0;
+        lookaheadCount = 0;
+        pulledTokens = 0;
+        lastOffset = 0;
+        return build(null);
+    }
+    
+    public SymbolTable buildSymbolTable(TokenBuffer tokenBuffer) {
+        tokens = tokenBuffer;
+        stream = null;
+        currentToken = 0;
+        return build(null);
+    }
+    
+    // Parallel mode for large compilation units. A brace-matching pass finds the
+    // top-level class and interface declarations, each is parsed into its own subtree on
+    // the pool, and the subtrees are merged into the global scope in source order. The
+    // result, including the first error and duplicate detection, is the same as
+    // buildSymbolTable(TokenBuffer).
+    public SymbolTable buildSymbolTableParallel(String code) {
+        Lexer lexer = new Lexer(code);
+        lexer.setSourceName(sourceName);
+        return buildSymbolTableParallel(lexer.tokenizeToBuffer(), ForkJoinPool.commonPool());
+    }
+    
+    public SymbolTable buildSymbolTableParallel(TokenBuffer tokenBuffer, ForkJoinPool pool) {
+        tokens = tokenBuffer;
+        stream = null;
+        currentToken = 0;
+        return build(pool);
+    }
+    
+    // Updates previous, a tree this class built from oldSource, for the edit that
+    // replaces removedLength characters at offset with insertedText. Only the innermost
+    // class, interface, method or constructor body strictly containing the edit is lexed
+    // and parsed again and spliced into previous, which is returned. Symbols outside it
+    // keep their identity and only have their positions moved; inside it, at any depth,
+    // a symbol whose declaration is unchanged is the old object at its new position,
+    // and so is its local scope.
+    //
+    // Anything the splice cannot reproduce exactly is built from scratch into a new tree
+    // instead: edits outside every body, edits adding or removing quotes or backslashes,
+    // which may change how the text before the body lexes, bodies that no longer end at
+    // the same closing brace, and previous trees from failed builds.
+    public SymbolTable rebuildSymbolTable(SymbolTable previous, String oldSource, int offset,
+                                          int removedLength, String insertedText) {
+        if (offset < 0 || removedLength < 0 || offset + removedLength > oldSource.length()) {
+            throw new IndexOutOfBoundsException("Edit [" + offset + ", " + (offset + removedLength)
+                + ") outside source of length " + oldSource.length());
+        }
+
+        SymbolTable target = null;
+        if (previous.getParent() == null && previous.getBodyEnd() == oldSource.length()
+            && !changesQuoting(oldSource, offset, offset + removedLength)
+            && !changesQuoting(insertedText, 0, insertedText.length())) {
+            target = enclosingBody(previous, offset, offset + removedLength);
+        }
+        if (target != null) {
+            try {
+                if (reparse(previous, target, oldSource, offset, removedLength, insertedText)) {
+                    globalScope = previous;
+                    error = null;
+                    return previous;
+                }
+            } catch (Exception e) {
+                // The full build reports the error with the state it has at that point.
+            } finally {
+                baseOffset = 0;
+                baseLine = 0;
+                baseColumn = 0;
+            }
+        }
+
+        globalScope = new SymbolTable("Global", null, namePool);
+        currentScope = globalScope;
+        return buildSymbolTable(oldSource.substring(0, offset) + insertedText
+            + oldSource.substring(offset + removedLength));
+    }
+
+    private static boolean changesQuoting(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\'' || c == '\\') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Innermost scope whose recorded body strictly contains [start, end), not counting
+    // its braces; null if that is only the global scope.
+    private static SymbolTable enclosingBody(SymbolTable root, int start, int end) {
+        SymbolTable found = null;
+        SymbolTable scope = root;
+        while (scope != null) {
+            SymbolTable inner = null;
+            for (SymbolTable child : scope.getChildren()) {
+                if (child.getBodyStart() >= 0 && child.getBodyStart() < start && end < child.getBodyEnd()) {
+                    inner = child;
+                    break;
+                }
+            }
+            if (inner != null) {
+                found = inner;
+            }
+            scope = inner;
+        }
+        return found;
+    }
+
+    // Lexes and parses only the edited text of target's body into a detached scope
+    // seeded with target's header symbols; tokens are moved to their place in the whole
+    // source through the base offset, line and column. If the parse ends exactly at the
+    // body's closing brace, everything outside the body parses as before, so the result
+    // is reconciled into target and the positions after the edit are moved; otherwise
+    // false and previous is untouched.
+    private boolean reparse(SymbolTable root, SymbolTable target, String oldSource,
+                            int offset, int removedLength, String insertedText) throws Exception {
+        Symbol owner = null;
+        for (Symbol symbol : target.getParent().getSymbolMap()) {
+            if (symbol.getLocalScope() == target) {
+                owner = symbol;
+            }
+        }
+        if (owner == null) {
+            return false;
+        }
+
+        int bodyStart = target.getBodyStart();
+        int removedEnd = offset + removedLength;
+        // The trailing space lets a block comment left open in the body swallow the
+        // closing brace, as it would in the whole source, instead of ending just before
+        // the last character.
+        String body = oldSource.substring(bodyStart, offset) + insertedText
+            + oldSource.substring(removedEnd, target.getBodyEnd()) + ' ';
+        int bodyLength = body.length() - 1;
+        Lexer lexer = new Lexer(body);
+        lexer.setSourceName(sourceName);
+        tokens = lexer.tokenizeToBuffer();
+        stream = null;
+        currentToken = 0;
+        baseOffset = bodyStart;
+        baseLine = target.getBodyLine() - 1;
+        baseColumn = target.getBodyColumn() - 1;
+        int last = tokens.size() - 2;
+        if (last < 0 || tokens.getType(last) != TokenType.RBRACE || tokens.getOffset(last) != bodyLength - 1) {
+            return false;
+        }
+
+        List<Symbol> oldSymbols = target.getAllSymbols();
+        SymbolTable parsed = new SymbolTable(target.getScopeName(), null, root.getNamePool());
+        for (int i = 0; i < target.getHeaderSymbols(); i++) {
+            parsed.addSymbol(oldSymbols.get(i));
+        }
+        currentScope = parsed;
+        parseBody(parsed, owner.getSymbolType());
+        if (currentToken != last + 1) {
+            return false;
+        }
+
+        // Where the text after the edit was and is now, found from the body start
+        // without scanning the rest of the source.
+        int oldLine = lineAt(oldSource, bodyStart, removedEnd, target.getBodyLine());
+        int oldColumn = columnAt(oldSource, bodyStart, removedEnd, target.getBodyColumn());
+        int insertedEnd = offset - bodyStart + insertedText.length();
+        int newLine = lineAt(body, 0, insertedEnd, target.getBodyLine());
+        int newColumn = columnAt(body, 0, insertedEnd, target.getBodyColumn());
+
+        shiftPositions(root, target, removedEnd, insertedText.length() - removedLength,
+            oldLine, oldColumn, newLine, newColumn);
+        reconcile(target, parsed, target.getHeaderSymbols());
+        return true;
+    }
+
+    // Makes old hold what was parsed into fresh, the same declarations parsed again.
+    // Every symbol from index from on that has the same name and flags as one of old's
+    // is replaced by that old symbol, moved to its new position, and the old symbol's
+    // local scope is reconciled with the new one in turn and kept; the symbols before
+    // from are old's already.
+    private static void reconcile(SymbolTable old, SymbolTable fresh, int from) {
+        List<Symbol> symbols = fresh.getAllSymbols();
+        List<SymbolTable> children = new ArrayList<>();
+        for (int i = 0; i < symbols.size(); i++) {
+            Symbol parsed = symbols.get(i);
+            Symbol kept = i >= from ? old.lookupLocal(fresh.getSymbolMap().idAt(i)) : null;
+            if (kept != null && kept != parsed && kept.getFlags() == parsed.getFlags()
+                && sameScope(kept.getLocalScope(), parsed.getLocalScope())) {
+                kept.setLine(parsed.getLine());
+                kept.setColumn(parsed.getColumn());
+                if (kept.getLocalScope() != null) {
+                    reconcile(kept.getLocalScope(), parsed.getLocalScope(), 0);
+                }
+                symbols.set(i, kept);
+            }
+            if (symbols.get(i).getLocalScope() != null) {
+                children.add(symbols.get(i).getLocalScope());
+            }
+        }
+        old.replaceContents(symbols, children);
+        old.copyBody(fresh);
+    }
+
+    private static boolean sameScope(SymbolTable old, SymbolTable parsed) {
+        return old == null ? parsed == null : parsed != null && old.getScopeName().equals(parsed.getScopeName());
+    }
+
+    // Moves the body spans and the symbol positions at or after removedEnd, the end of
+    // the removed text, by delta characters and from oldLine:oldColumn to
+    // newLine:newColumn, where that text now follows the inserted one. target's own
+    // symbols and scopes are about to be replaced and are skipped.
+    private static void shiftPositions(SymbolTable root, SymbolTable target, int removedEnd, int delta,
+                                       int oldLine, int oldColumn, int newLine, int newColumn) {
+        int lineDelta = newLine - oldLine;
+        Deque<SymbolTable> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            SymbolTable scope = pending.pop();
+            if (scope.getBodyStart() >= removedEnd) {
+                scope.setBody(scope.getBodyStart() + delta, scope.getBodyEnd() + delta);
+                int line = scope.getBodyLine();
+                int column = line == oldLine ? scope.getBodyColumn() - oldColumn + newColumn : scope.getBodyColumn();
+                scope.setBodyPosition(line + lineDelta, column);
+            } else if (scope.getBodyEnd() > removedEnd) {
+                scope.setBodyEnd(scope.getBodyEnd() + delta);
+            }
+            if (scope == target) {
+                continue;
+            }
+
+            for (Symbol symbol : scope.getSymbolMap()) {
+                int line = symbol.getLine();
+                if (line == oldLine && symbol.getColumn() >= oldColumn) {
+                    symbol.setColumn(symbol.getColumn() - oldColumn + newColumn);
+                    symbol.setLine(line + lineDelta);
+                } else if (line > oldLine) {
+                    symbol.setLine(line + lineDelta);
+                }
+            }
+            for (SymbolTable child : scope.getChildren()) {
+                pending.push(child);
+            }
+        }
+    }
+
+    // Line of position end in text, given that start is on line.
+    private static int lineAt(String text, int start, int end, int line) {
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == '\n') {
+                line++;
+            }
+        }
+        return line;
+    }
+
+    // Column of position end in text, given that start is at column.
+    private static int columnAt(String text, int start, int end, int column) {
+        for (int i = end - 1; i >= start; i--) {
+            if (text.charAt(i) == '\n') {
+                return end - i;
+            }
+        }
+        return column + end - start;
+    }
+
+    private SymbolTable build(ForkJoinPool pool) {
+        SymbolTableEvent event = new SymbolTableEvent();
+        event.begin();
+        error = null;
+        
+        try {
+            if (pool != null) {
+                event.parallel = true;
+                parseProgramParallel(pool);
+            } else {
+                parseProgram();
+            }
+            globalScope.setBody(0, currentOffset());
             
         } catch (Exception e) {
-            System.err.println("Error building symbol table: " + e.getMessage());
-            e.printStackTrace();
+            CompilerMetrics.recordError();
+            event.failed = true;
+            error = e;
+            if (errorStream != null) {
+                errorStream.println("Error building symbol table: " + e.getMessage());
+                e.printStackTrace(errorStream);
+            }
+        }
+        
+        if (event.shouldCommit()) {
+            event.file = sourceName;
+            if (stream != null) {
+                event.bytes = lastOffset;
+                event.tokens = pulledTokens;
+            } else {
+                event.bytes = tokens.size() > 0 ? tokens.getOffset(tokens.size() - 1) : 0;
+                event.tokens = tokens.size();
+            }
+            event.symbols = globalScope.getTotalSymbolCount();
+            event.scopes = globalScope.getScopeCount();
+            event.commit();
         }
         
         return globalScope;
     }
     
     private void parseProgram() throws Exception {
-        while (currentToken < tokens.size() && !isTokenType(TokenType.EOF)) {
+        while (skipToDeclaration()) {
+            parseDeclaration();
+        }
+    }
+    
+    // Skips imports and stray tokens at the top level; false at the end of the input.
+    private boolean skipToDeclaration() throws Exception {
+        while (hasToken(0) && !isTokenType(TokenType.EOF)) {
             if (isTokenType(TokenType.IMPORT)) {
                 skipImport();
-            } else if (isTokenType(TokenType.CLASS)) {
-                parseClass();
-            } else if (isTokenType(TokenType.INTERFACE)) {
-                parseInterface();
+            } else if (isTokenType(TokenType.CLASS) || isTokenType(TokenType.INTERFACE)) {
+                return true;
             } else {
                 advance();
             }
         }
+        return false;
+    }
+    
+    private void parseDeclaration() throws Exception {
+        if (isTokenType(TokenType.CLASS)) {
+            parseClass();
+        } else {
+            parseInterface();
+        }
+    }
+    
+    // Declarations are parsed speculatively from where brace matching says they start.
+    // The merge then walks the top level as parseProgram() would and adopts a subtree
+    // only if the real parse reaches the same start; the first mismatch, which needs
+    // unbalanced braces, falls back to parsing the rest sequentially.
+    private void parseProgramParallel(ForkJoinPool pool) throws Exception {
+        List<Integer> starts = findDeclarations();
+        List<ForkJoinTask<ManualSymbolTableBuilder>> parts = new ArrayList<>(starts.size());
+        for (int start : starts) {
+            parts.add(pool.submit(() -> parseDetached(start)));
+        }
+        
+        for (int i = 0; i < parts.size(); i++) {
+            if (!skipToDeclaration() || currentToken != starts.get(i)) {
+                for (int j = i; j < parts.size(); j++) {
+                    parts.get(j).cancel(false);
+                }
+                parseProgram();
+                return;
+            }
+            
+            ManualSymbolTableBuilder part = parts.get(i).join();
+            parts.set(i, null);
+            for (Symbol symbol : part.globalScope.getAllSymbols()) {
+                globalScope.addSymbol(symbol);
+            }
+            for (SymbolTable scope : new ArrayList<>(part.globalScope.getChildren())) {
+                globalScope.adopt(scope);
+            }
+            if (part.error != null) {
+                throw part.error;
+            }
+            currentToken = part.currentToken;
+        }
+        
+        parseProgram();
+    }
+    
+    // Token indexes of the top-level class and interface keywords, skipping imports as
+    // parseProgram() does and each declaration up to its matching closing brace.
+    private List<Integer> findDeclarations() {
+        List<Integer> starts = new ArrayList<>();
+        int size = tokens.size();
+        int i = 0;
+        while (i < size && tokens.getType(i) != TokenType.EOF) {
+            TokenType type = tokens.getType(i);
+            if (type == TokenType.IMPORT) {
+                while (i < size && tokens.getType(i) != TokenType.SEMICOLON) {
+                    i++;
+                }
+                i++;
+            } else if (type == TokenType.CLASS || type == TokenType.INTERFACE) {
+                starts.add(i);
+                while (i < size && tokens.getType(i) != TokenType.LBRACE) {
+                    i++;
+                }
+                int depth = 0;
+                for (; i < size; i++) {
+                    TokenType t = tokens.getType(i);
+                    if (t == TokenType.LBRACE) {
+                        depth++;
+                    } else if (t == TokenType.RBRACE && --depth == 0) {
+                        break;
+                    }
+                }
+                i++;
+            } else {
+                i++;
+            }
+        }
+        return starts;
+    }
+    
+    // Parses the declaration at start into a fresh global scope. The symbols are
+    // adopted by the real global scope later; a failure is kept for the merge to raise.
+    private ManualSymbolTableBuilder parseDetached(int start) {
+        ManualSymbolTableBuilder part = new ManualSymbolTableBuilder(namePool);
+        part.tokens = tokens;
+        part.currentToken = start;
+        try {
+            part.parseDeclaration();
+        } catch (Exception e) {
+            part.error = e;
+        }
+        return part;
     }
     
     private void parseClass() throws Exception {
@@ -56,7 +505,7 @@ public class ManualSymbolTableBuilder {
         String className = expectIdentifier();
         
         Symbol classSymbol = new Symbol(className, Symbol.Type.CLASS, null, 
-            getCurrentToken().getLine(), getCurrentToken().getColumn());
+            currentLine(), currentColumn());
         classSymbol.setAbstract(isAbstract);
         currentScope.addSymbol(classSymbol);
         
@@ -75,16 +524,10 @@ public class ManualSymbolTableBuilder {
                 if (isTokenType(TokenType.COMMA)) {
                     advance();
                 }
-            } while (!isTokenType(TokenType.LBRACE));
-        }
-        
-        expect(TokenType.LBRACE);
-        
-        while (!isTokenType(TokenType.RBRACE) && currentToken < tokens.size()) {
-            parseClassMember();
+            } while (!isTokenType(TokenType.LBRACE) && hasToken(0));
         }
         
-        expect(TokenType.RBRACE);
+        parseBody(classScope, Symbol.Type.CLASS);
         currentScope = previousScope;
     }
     
@@ -93,7 +536,7 @@ public class ManualSymbolTableBuilder {
         String interfaceName = expectIdentifier();
         
         Symbol interfaceSymbol = new Symbol(interfaceName, Symbol.Type.INTERFACE, null,
-            getCurrentToken().getLine(), getCurrentToken().getColumn());
+            currentLine(), currentColumn());
         currentScope.addSymbol(interfaceSymbol);
         
         SymbolTable interfaceScope = new SymbolTable(interfaceName, currentScope);
@@ -101,24 +544,41 @@ public class ManualSymbolTableBuilder {
         SymbolTable previousScope = currentScope;
         currentScope = interfaceScope;
         
+        parseBody(interfaceScope, Symbol.Type.INTERFACE);
+        currentScope = previousScope;
+    }
+    
+    // Parses the braced body of scope, which is declared by a symbol of the given type,
+    // and records where the body starts and ends for rebuildSymbolTable.
+    private void parseBody(SymbolTable scope, Symbol.Type owner) throws Exception {
+        scope.setBodyStart(currentOffset(), currentLine(), currentColumn());
         expect(TokenType.LBRACE);
         
-        while (!isTokenType(TokenType.RBRACE) && currentToken < tokens.size()) {
-            parseInterfaceMember();
+        if (owner == Symbol.Type.CLASS) {
+            while (!isTokenType(TokenType.RBRACE) && hasToken(0)) {
+                parseClassMember();
+            }
+        } else if (owner == Symbol.Type.INTERFACE) {
+            while (!isTokenType(TokenType.RBRACE) && hasToken(0)) {
+                parseInterfaceMember();
+            }
+        } else {
+            parseMethodBody();
         }
         
+        int end = currentOffset();
         expect(TokenType.RBRACE);
-        currentScope = previousScope;
+        scope.setBodyEnd(end + 1);
     }
     
     private void parseClassMember() throws Exception {
-        String accessModifier = "default";
+        Symbol.Access access = Symbol.Access.DEFAULT;
         boolean isStatic = false;
         boolean isAbstract = false;
         
         if (isTokenType(TokenType.PUBLIC) || isTokenType(TokenType.PRIVATE) || 
             isTokenType(TokenType.PROTECTED) || isTokenType(TokenType.INTERNAL)) {
-            accessModifier = getCurrentToken().getValue();
+            access = accessOf(typeAt(0));
             advance();
         }
         
@@ -126,8 +586,8 @@ public class ManualSymbolTableBuilder {
             isStatic = true;
             advance();
             
-            if (isTokenType(TokenType.VOID) && peek().getValue().equals("main")) {
-                parseMainMethod(accessModifier, isStatic);
+            if (isTokenType(TokenType.VOID) && "main".equals(peekValue())) {
+                parseMainMethod(access, isStatic);
                 return;
             }
         }
@@ -138,28 +598,28 @@ public class ManualSymbolTableBuilder {
         }
         
         if (isType()) {
-            String type = getCurrentToken().getValue();
+            String type = currentValue();
             advance();
             
             if (isTokenType(TokenType.IDENTIFIER)) {
-                String name = getCurrentToken().getValue();
+                String name = currentValue();
                 advance();
                 
                 if (isTokenType(TokenType.LPAREN)) {
-                    parseMethod(name, type, accessModifier, isStatic, isAbstract);
+                    parseMethod(name, type, access, isStatic, isAbstract);
                 } else {
-                    parseField(name, type, accessModifier, isStatic);
+                    parseField(name, type, access, isStatic);
                 }
             }
         } else if (isTokenType(TokenType.VOID)) {
             advance();
             String methodName = expectIdentifier();
-            parseMethod(methodName, "void", accessModifier, isStatic, isAbstract);
+            parseMethod(methodName, "void", access, isStatic, isAbstract);
         } else if (isTokenType(TokenType.IDENTIFIER)) {
-            String name = getCurrentToken().getValue();
+            String name = currentValue();
             advance();
             if (isTokenType(TokenType.LPAREN)) {
-                parseConstructor(name, accessModifier);
+                parseConstructor(name, access);
             }
         } else {
             advance(); 
@@ -168,7 +628,7 @@ public class ManualSymbolTableBuilder {
     
     private void parseInterfaceMember() throws Exception {
         if (isType()) {
-            String type = getCurrentToken().getValue();
+            String type = currentValue();
             advance();
             String name = expectIdentifier();
             
@@ -186,13 +646,13 @@ public class ManualSymbolTableBuilder {
         }
     }
     
-    private void parseMainMethod(String accessModifier, boolean isStatic) throws Exception {
+    private void parseMainMethod(Symbol.Access access, boolean isStatic) throws Exception {
         expect(TokenType.VOID);
         expect(TokenType.MAIN);
         
         Symbol mainMethod = new Symbol("main", Symbol.Type.METHOD, "void",
-            getCurrentToken().getLine(), getCurrentToken().getColumn());
-        mainMethod.setAccessModifier(accessModifier);
+            currentLine(), currentColumn());
+        mainMethod.setAccess(access);
         mainMethod.setStatic(isStatic);
         currentScope.addSymbol(mainMethod);
         
@@ -208,23 +668,19 @@ public class ManualSymbolTableBuilder {
         String argsName = expectIdentifier();
         
         Symbol argsParam = new Symbol(argsName, Symbol.Type.PARAMETER, "String[]",
-            getCurrentToken().getLine(), getCurrentToken().getColumn());
+            currentLine(), currentColumn());
         currentScope.addSymbol(argsParam);
         
         expect(TokenType.RPAREN);
-        expect(TokenType.LBRACE);
-        
-        parseMethodBody();
-        
-        expect(TokenType.RBRACE);
+        parseBody(methodScope, Symbol.Type.METHOD);
         currentScope = previousScope;
     }
     
-    private void parseMethod(String name, String returnType, String accessModifier, 
+    private void parseMethod(String name, String returnType, Symbol.Access access, 
                            boolean isStatic, boolean isAbstract) throws Exception {
         Symbol methodSymbol = new Symbol(name, Symbol.Type.METHOD, returnType,
-            getCurrentToken().getLine(), getCurrentToken().getColumn());
-        methodSymbol.setAccessModifier(accessModifier);
+            currentLine(), currentColumn());
+        methodSymbol.setAccess(access);
         methodSymbol.setStatic(isStatic);
         methodSymbol.setAbstract(isAbstract);
         currentScope.addSymbol(methodSymbol);
@@ -241,18 +697,16 @@ public class ManualSymbolTableBuilder {
         if (isAbstract) {
             expect(TokenType.SEMICOLON);
         } else {
-            expect(TokenType.LBRACE);
-            parseMethodBody();
-            expect(TokenType.RBRACE);
+            parseBody(methodScope, Symbol.Type.METHOD);
         }
         
         currentScope = previousScope;
     }
     
-    private void parseConstructor(String name, String accessModifier) throws Exception {
+    private void parseConstructor(String name, Symbol.Access access) throws Exception {
         Symbol ctorSymbol = new Symbol(name, Symbol.Type.CONSTRUCTOR, null,
-            getCurrentToken().getLine(), getCurrentToken().getColumn());
-        ctorSymbol.setAccessModifier(accessModifier);
+            currentLine(), currentColumn());
+        ctorSymbol.setAccess(access);
         currentScope.addSymbol(ctorSymbol);
         
         SymbolTable ctorScope = new SymbolTable(name + "_ctor", currentScope);
@@ -263,17 +717,15 @@ public class ManualSymbolTableBuilder {
         expect(TokenType.LPAREN);
         parseParameterList();
         expect(TokenType.RPAREN);
-        expect(TokenType.LBRACE);
-        parseMethodBody();
-        expect(TokenType.RBRACE);
+        parseBody(ctorScope, Symbol.Type.CONSTRUCTOR);
         
         currentScope = previousScope;
     }
     
-    private void parseField(String name, String type, String accessModifier, boolean isStatic) throws Exception {
+    private void parseField(String name, String type, Symbol.Access access, boolean isStatic) throws Exception {
         Symbol fieldSymbol = new Symbol(name, Symbol.Type.FIELD, type,
-            getCurrentToken().getLine(), getCurrentToken().getColumn());
-        fieldSymbol.setAccessModifier(accessModifier);
+            currentLine(), currentColumn());
+        fieldSymbol.setAccess(access);
         fieldSymbol.setStatic(isStatic);
         
         if (isTokenType(TokenType.LBRACKET)) {
@@ -284,7 +736,7 @@ public class ManualSymbolTableBuilder {
         
         currentScope.addSymbol(fieldSymbol);
         
-        while (!isTokenType(TokenType.SEMICOLON) && currentToken < tokens.size()) {
+        while (!isTokenType(TokenType.SEMICOLON) && hasToken(0)) {
             advance();
         }
         expect(TokenType.SEMICOLON);
@@ -292,8 +744,8 @@ public class ManualSymbolTableBuilder {
     
     private void parseInterfaceMethod(String name, String returnType) throws Exception {
         Symbol methodSymbol = new Symbol(name, Symbol.Type.METHOD, returnType,
-            getCurrentToken().getLine(), getCurrentToken().getColumn());
-        methodSymbol.setAccessModifier("public");
+            currentLine(), currentColumn());
+        methodSymbol.setAccess(Symbol.Access.PUBLIC);
         methodSymbol.setAbstract(true);
         currentScope.addSymbol(methodSymbol);
         
@@ -312,8 +764,8 @@ public class ManualSymbolTableBuilder {
     
     private void parseInterfaceField(String name, String type) throws Exception {
         Symbol fieldSymbol = new Symbol(name, Symbol.Type.FIELD, type,
-            getCurrentToken().getLine(), getCurrentToken().getColumn());
-        fieldSymbol.setAccessModifier("public");
+            currentLine(), currentColumn());
+        fieldSymbol.setAccess(Symbol.Access.PUBLIC);
         fieldSymbol.setStatic(true);
         
         if (isTokenType(TokenType.LBRACKET)) {
@@ -324,7 +776,7 @@ public class ManualSymbolTableBuilder {
         
         currentScope.addSymbol(fieldSymbol);
         
-        while (!isTokenType(TokenType.SEMICOLON) && currentToken < tokens.size()) {
+        while (!isTokenType(TokenType.SEMICOLON) && hasToken(0)) {
             advance();
         }
         expect(TokenType.SEMICOLON);
@@ -334,7 +786,7 @@ public class ManualSymbolTableBuilder {
         if (!isTokenType(TokenType.RPAREN)) {
             do {
                 if (isType()) {
-                    String paramType = getCurrentToken().getValue();
+                    String paramType = currentValue();
                     advance();
                     
                     if (isTokenType(TokenType.LBRACKET)) {
@@ -346,21 +798,25 @@ public class ManualSymbolTableBuilder {
                     String paramName = expectIdentifier();
                     
                     Symbol paramSymbol = new Symbol(paramName, Symbol.Type.PARAMETER, paramType,
-                        getCurrentToken().getLine(), getCurrentToken().getColumn());
+                        currentLine(), currentColumn());
                     currentScope.addSymbol(paramSymbol);
                 }
                 
                 if (isTokenType(TokenType.COMMA)) {
                     advance();
+                } else if (!isType()) {
+                    // Nothing here can continue the list; the caller's expect(RPAREN)
+                    // reports it instead of this loop spinning in place.
+                    break;
                 }
             } while (!isTokenType(TokenType.RPAREN));
         }
     }
     
     private void parseMethodBody() throws Exception {
-        while (!isTokenType(TokenType.RBRACE) && currentToken < tokens.size()) {
+        while (!isTokenType(TokenType.RBRACE) && hasToken(0)) {
             if (isType()) {
-                String varType = getCurrentToken().getValue();
+                String varType = currentValue();
                 advance();
                 
                 if (isTokenType(TokenType.LBRACKET)) {
@@ -372,10 +828,10 @@ public class ManualSymbolTableBuilder {
                 String varName = expectIdentifier();
                 
                 Symbol varSymbol = new Symbol(varName, Symbol.Type.VARIABLE, varType,
-                    getCurrentToken().getLine(), getCurrentToken().getColumn());
+                    currentLine(), currentColumn());
                 currentScope.addSymbol(varSymbol);
                 
-                while (!isTokenType(TokenType.SEMICOLON) && currentToken < tokens.size()) {
+                while (!isTokenType(TokenType.SEMICOLON) && hasToken(0)) {
                     advance();
                 }
                 expect(TokenType.SEMICOLON);
@@ -386,51 +842,123 @@ public class ManualSymbolTableBuilder {
     }
     
     private void skipImport() throws Exception {
-        while (!isTokenType(TokenType.SEMICOLON) && currentToken < tokens.size()) {
+        while (!isTokenType(TokenType.SEMICOLON) && hasToken(0)) {
             advance();
         }
         advance(); 
     }
     
+    private static Symbol.Access accessOf(TokenType type) {
+        switch (type) {
+            case PUBLIC: return Symbol.Access.PUBLIC;
+            case PRIVATE: return Symbol.Access.PRIVATE;
+            case PROTECTED: return Symbol.Access.PROTECTED;
+            case INTERNAL: return Symbol.Access.INTERNAL;
+            default: return Symbol.Access.DEFAULT;
+        }
+    }
+    
     private boolean isType() {
         return isTokenType(TokenType.INT) || isTokenType(TokenType.BOOLEAN) || 
                isTokenType(TokenType.CHAR) || isTokenType(TokenType.STRING) ||
                isTokenType(TokenType.IDENTIFIER);
     }
     
+    // Whether the token k positions ahead of the current one exists; in fused mode this
+    // pulls tokens from the stream until it does.
+    private boolean hasToken(int k) {
+        if (stream == null) {
+            return currentToken + k < tokens.size();
+        }
+        while (lookaheadCount <= k && stream.hasNext()) {
+            LexerToken token = stream.next();
+            lookahead[(lookaheadStart + lookaheadCount) % lookahead.length] = token;
+            lookaheadCount++;
+            pulledTokens++;
+            lastOffset = token.getOffset();
+        }
+        return lookaheadCount > k;
+    }
+    
+    private LexerToken lookaheadToken(int k) {
+        return lookahead[(lookaheadStart + k) % lookahead.length];
+    }
+    
+    private TokenType typeAt(int k) {
+        return stream != null ? lookaheadToken(k).getType() : tokens.getType(currentToken + k);
+    }
+    
+    private String valueAt(int k) {
+        return stream != null ? lookaheadToken(k).getValue() : tokens.getValue(currentToken + k);
+    }
+    
     private boolean isTokenType(TokenType type) {
-        return currentToken < tokens.size() && tokens.get(currentToken).getType() == type;
+        return hasToken(0) && typeAt(0) == type;
     }
     
-    private LexerToken getCurrentToken() {
-        return currentToken < tokens.size() ? tokens.get(currentToken) : null;
+    private String currentValue() {
+        return hasToken(0) ? valueAt(0) : null;
     }
     
-    private LexerToken peek() {
-        return currentToken + 1 < tokens.size() ? tokens.get(currentToken + 1) : null;
+    private int currentOffset() {
+        if (!hasToken(0)) {
+            return -1;
+        }
+        return stream != null ? lookaheadToken(0).getOffset() : tokens.getOffset(currentToken) + baseOffset;
+    }
+    
+    private int currentLine() {
+        if (!hasToken(0)) {
+            return 0;
+        }
+        return stream != null ? lookaheadToken(0).getLine() : tokens.getLine(currentToken) + baseLine;
+    }
+    
+    private int currentColumn() {
+        if (!hasToken(0)) {
+            return 0;
+        }
+        if (stream != null) {
+            return lookaheadToken(0).getColumn();
+        }
+        int column = tokens.getColumn(currentToken);
+        return tokens.getLine(currentToken) == 1 ? column + baseColumn : column;
+    }
+    
+    private String peekValue() {
+        return hasToken(1) ? valueAt(1) : null;
+    }
+    
+    private String currentTypeName() {
+        return hasToken(0) ? typeAt(0).toString() : "EOF";
     }
     
     private void advance() {
-        if (currentToken < tokens.size()) {
+        if (!hasToken(0)) {
+            return;
+        }
+        if (stream != null) {
+            lookahead[lookaheadStart] = null;
+            lookaheadStart = (lookaheadStart + 1) % lookahead.length;
+            lookaheadCount--;
+        } else {
             currentToken++;
         }
     }
     
     private void expect(TokenType type) throws Exception {
         if (!isTokenType(type)) {
-            throw new Exception("Expected " + type + " but found " + 
-                (getCurrentToken() != null ? getCurrentToken().getType() : "EOF") +
-                " at line " + (getCurrentToken() != null ? getCurrentToken().getLine() : 0));
+            throw new Exception("Expected " + type + " but found " + currentTypeName() +
+                " at line " + currentLine());
         }
         advance();
     }
     
     private String expectIdentifier() throws Exception {
         if (!isTokenType(TokenType.IDENTIFIER)) {
-            throw new Exception("Expected identifier but found " + 
-                (getCurrentToken() != null ? getCurrentToken().getType() : "EOF"));
+            throw new Exception("Expected identifier but found " + currentTypeName());
         }
-        String name = getCurrentToken().getValue();
+        String name = currentValue();
         advance();
         return name;
     }
@@ -0,0 +1,21 @@
+package phase2;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("phase2.GenerateReport")
+@Label("Generate Report")
+@Category({"Java--", "Compiler"})
+@Description("Prints the report of a symbol table")
+final class ReportEvent extends jdk.jfr.Event {
+    @Label("Scope")
+    String scope;
+
+    @Label("Symbols")
+    int symbols;
+
+    @Label("Scopes")
+    int scopes;
+}
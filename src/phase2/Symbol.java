@@ -1,5 +1,7 @@
 package phase2;
 
+import phase1.NamePool;
+
 public class Symbol {
     public enum Type {
         CLASS,
@@ -10,89 +12,214 @@ public class Symbol {
         VARIABLE,
         PARAMETER
     }
-    
-    private String name;
-    private Type symbolType;
-    private String dataType;
-    private String accessModifier;
-    private int line;
-    private int column;
-    private boolean isStatic;
-    private boolean isAbstract;
-    private boolean isArray;
-    private SymbolTable localScope; 
-    
+
+    public enum Access {
+        DEFAULT("default"),
+        PUBLIC("public"),
+        PRIVATE("private"),
+        PROTECTED("protected"),
+        INTERNAL("internal");
+
+        private final String keyword;
+
+        Access(String keyword) {
+            this.keyword = keyword;
+        }
+
+        public String getKeyword() { return keyword; }
+
+        public static Access of(String keyword) {
+            for (Access access : ACCESSES) {
+                if (access.keyword.equals(keyword)) {
+                    return access;
+                }
+            }
+            throw new IllegalArgumentException("Unknown access modifier: " + keyword);
+        }
+    }
+
+    private static final Type[] TYPES = Type.values();
+    private static final Access[] ACCESSES = Access.values();
+
+    // Data types are interned apart from names so their ids stay small enough for the
+    // flags word, and equal types such as "int[]" share one String.
+    private static final NamePool DATA_TYPES = new NamePool();
+
+    // Flags word: bits 0-2 symbol type, 3-5 access, 6 static, 7 abstract, 8 array, and
+    // from bit 9 up the data type id plus one, 0 meaning no data type.
+    private static final int TYPE_MASK = 0x7;
+    private static final int ACCESS_SHIFT = 3;
+    private static final int ACCESS_MASK = 0x7 << ACCESS_SHIFT;
+    private static final int STATIC = 1 << 6;
+    private static final int ABSTRACT = 1 << 7;
+    private static final int ARRAY = 1 << 8;
+    private static final int DATA_TYPE_SHIFT = 9;
+    static final int MODIFIER_BITS = (1 << DATA_TYPE_SHIFT) - 1;
+
+    // Position word: line in the high LINE_BITS bits, column in the rest. Positions that
+    // do not fit, such as columns of very long lines, are kept in a Wide instead.
+    private static final int COLUMN_BITS = 12;
+    private static final int LINE_BITS = 32 - COLUMN_BITS;
+    private static final int COLUMN_MASK = (1 << COLUMN_BITS) - 1;
+
+    // The name String; for a symbol with a local scope, the scope, which keeps the name
+    // as its owner name; or a Wide holding name, scope and position. Together with the
+    // two words this keeps a symbol at 24 bytes with compressed references.
+    private Object name;
+    private int flags;
+    private int position;
+
     public Symbol(String name, Type symbolType, String dataType, int line, int column) {
-        this.name = name;
-        this.symbolType = symbolType;
-        this.dataType = dataType;
-        this.line = line;
-        this.column = column;
-        this.accessModifier = "default";
-        this.isStatic = false;
-        this.isAbstract = false;
-        this.isArray = false;
+        set(name, null, line, column);
+        setSymbolType(symbolType);
+        setDataType(dataType);
+    }
+
+    Symbol(String name, int flags, int line, int column) {
+        set(name, null, line, column);
+        this.flags = flags;
+    }
+
+    public String getName() {
+        if (name instanceof SymbolTable) {
+            return ((SymbolTable) name).getOwnerName();
+        }
+        return name instanceof Wide ? ((Wide) name).name : (String) name;
+    }
+
+    public void setName(String name) { set(name, getLocalScope(), getLine(), getColumn()); }
+
+    public Type getSymbolType() { return typeOf(flags); }
+    public void setSymbolType(Type symbolType) { flags = flags & ~TYPE_MASK | symbolType.ordinal(); }
+
+    public String getDataType() { return dataTypeOf(flags); }
+    public void setDataType(String dataType) {
+        int id = dataType != null ? DATA_TYPES.intern(dataType) + 1 : 0;
+        if (id >= 1 << (32 - DATA_TYPE_SHIFT)) {
+            throw new IllegalStateException("Too many distinct data types");
+        }
+        flags = flags & ((1 << DATA_TYPE_SHIFT) - 1) | id << DATA_TYPE_SHIFT;
+    }
+
+    // Interned id of the data type, or -1 if there is none; equal types have equal ids.
+    public int getDataTypeId() { return (flags >>> DATA_TYPE_SHIFT) - 1; }
+
+    public Access getAccess() { return ACCESSES[(flags & ACCESS_MASK) >>> ACCESS_SHIFT]; }
+    public void setAccess(Access access) { flags = flags & ~ACCESS_MASK | access.ordinal() << ACCESS_SHIFT; }
+
+    public String getAccessModifier() { return getAccess().getKeyword(); }
+    public void setAccessModifier(String accessModifier) { setAccess(Access.of(accessModifier)); }
+
+    public int getLine() { return name instanceof Wide ? ((Wide) name).line : position >>> COLUMN_BITS; }
+
+    public void setLine(int line) {
+        if (line >= 0 && line < 1 << LINE_BITS && !(name instanceof Wide)) {
+            position = line << COLUMN_BITS | position & COLUMN_MASK;
+        } else {
+            set(getName(), getLocalScope(), line, getColumn());
+        }
+    }
+
+    public int getColumn() { return name instanceof Wide ? ((Wide) name).column : position & COLUMN_MASK; }
+
+    public void setColumn(int column) {
+        if (column >= 0 && column <= COLUMN_MASK && !(name instanceof Wide)) {
+            position = position & ~COLUMN_MASK | column;
+        } else {
+            set(getName(), getLocalScope(), getLine(), column);
+        }
+    }
+
+    public boolean isStatic() { return (flags & STATIC) != 0; }
+    public void setStatic(boolean isStatic) { setFlag(STATIC, isStatic); }
+
+    public boolean isAbstract() { return (flags & ABSTRACT) != 0; }
+    public void setAbstract(boolean isAbstract) { setFlag(ABSTRACT, isAbstract); }
+
+    public boolean isArray() { return (flags & ARRAY) != 0; }
+    public void setArray(boolean isArray) { setFlag(ARRAY, isArray); }
+
+    public SymbolTable getLocalScope() {
+        if (name instanceof SymbolTable) {
+            return (SymbolTable) name;
+        }
+        return name instanceof Wide ? ((Wide) name).localScope : null;
+    }
+
+    public void setLocalScope(SymbolTable localScope) { set(getName(), localScope, getLine(), getColumn()); }
+
+    int getFlags() { return flags; }
+
+    static Type typeOf(int flags) { return TYPES[flags & TYPE_MASK]; }
+
+    static String dataTypeOf(int flags) {
+        int id = (flags >>> DATA_TYPE_SHIFT) - 1;
+        return id >= 0 ? DATA_TYPES.name(id) : null;
     }
-    
-    public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
-    
-    public Type getSymbolType() { return symbolType; }
-    public void setSymbolType(Type symbolType) { this.symbolType = symbolType; }
-    
-    public String getDataType() { return dataType; }
-    public void setDataType(String dataType) { this.dataType = dataType; }
-    
-    public String getAccessModifier() { return accessModifier; }
-    public void setAccessModifier(String accessModifier) { this.accessModifier = accessModifier; }
-    
-    public int getLine() { return line; }
-    public void setLine(int line) { this.line = line; }
-    
-    public int getColumn() { return column; }
-    public void setColumn(int column) { this.column = column; }
-    
-    public boolean isStatic() { return isStatic; }
-    public void setStatic(boolean isStatic) { this.isStatic = isStatic; }
-    
-    public boolean isAbstract() { return isAbstract; }
-    public void setAbstract(boolean isAbstract) { this.isAbstract = isAbstract; }
-    
-    public boolean isArray() { return isArray; }
-    public void setArray(boolean isArray) { this.isArray = isArray; }
-    
-    public SymbolTable getLocalScope() { return localScope; }
-    public void setLocalScope(SymbolTable localScope) { this.localScope = localScope; }
-    
+
+    private void setFlag(int flag, boolean value) {
+        flags = value ? flags | flag : flags & ~flag;
+    }
+
+    // Picks the compact form when the position fits and the local scope, if any, has
+    // no owner name or this one; a scope shared under two names needs a Wide.
+    private void set(String name, SymbolTable localScope, int line, int column) {
+        if (line >= 0 && line < 1 << LINE_BITS && column >= 0 && column <= COLUMN_MASK
+            && (localScope == null || localScope.claimOwnerName(name))) {
+            this.name = localScope != null ? localScope : name;
+            position = line << COLUMN_BITS | column;
+        } else {
+            this.name = new Wide(name, localScope, line, column);
+            position = 0;
+        }
+    }
+
+    private static final class Wide {
+        final String name;
+        final SymbolTable localScope;
+        final int line;
+        final int column;
+
+        Wide(String name, SymbolTable localScope, int line, int column) {
+            this.name = name;
+            this.localScope = localScope;
+            this.line = line;
+            this.column = column;
+        }
+    }
+
     @Override
     public String toString() {
+        String dataType = getDataType();
         StringBuilder sb = new StringBuilder();
-        sb.append(String.format("%-15s %-12s %-12s %-8s", 
-            name, symbolType, dataType != null ? dataType : "N/A", accessModifier));
-        
-        if (isStatic) sb.append(" static");
-        if (isAbstract) sb.append(" abstract");
-        if (isArray) sb.append("[]");
-        
-        sb.append(String.format(" [%d:%d]", line, column));
+        sb.append(String.format("%-15s %-12s %-12s %-8s",
+            getName(), getSymbolType(), dataType != null ? dataType : "N/A", getAccessModifier()));
+
+        if (isStatic()) sb.append(" static");
+        if (isAbstract()) sb.append(" abstract");
+        if (isArray()) sb.append("[]");
+
+        sb.append(String.format(" [%d:%d]", getLine(), getColumn()));
         return sb.toString();
     }
-    
+
     public String getFullSignature() {
         StringBuilder sb = new StringBuilder();
-        if (!accessModifier.equals("default")) {
-            sb.append(accessModifier).append(" ");
+        Access access = getAccess();
+        if (access != Access.DEFAULT) {
+            sb.append(access.getKeyword()).append(" ");
         }
-        if (isStatic) sb.append("static ");
-        if (isAbstract) sb.append("abstract ");
-        
-        if (dataType != null && !symbolType.equals(Type.CLASS) && !symbolType.equals(Type.INTERFACE)) {
-            sb.append(dataType);
-            if (isArray) sb.append("[]");
+        if (isStatic()) sb.append("static ");
+        if (isAbstract()) sb.append("abstract ");
+
+        Type symbolType = getSymbolType();
+        if (getDataTypeId() >= 0 && symbolType != Type.CLASS && symbolType != Type.INTERFACE) {
+            sb.append(getDataType());
+            if (isArray()) sb.append("[]");
             sb.append(" ");
         }
-        
-        sb.append(name);
+
+        sb.append(getName());
         return sb.toString();
     }
 }
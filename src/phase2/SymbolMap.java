@@ -0,0 +1,181 @@
+package phase2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// Insertion-ordered map from name id to Symbol for one scope. Symbols and their ids sit
+// in parallel arrays in insertion order; scopes of up to LINEAR_LIMIT symbols are
+// searched by scanning the ids, larger ones through an open-addressing index with
+// linear probing. There are no entry objects, and an empty scope allocates nothing.
+final class SymbolMap implements Iterable<Symbol> {
+    private static final int LINEAR_LIMIT = 8;
+    private static final int[] NO_IDS = new int[0];
+    private static final Symbol[] NO_SYMBOLS = new Symbol[0];
+
+    private int[] ids = NO_IDS;
+    private Symbol[] symbols = NO_SYMBOLS;
+    private int size;
+
+    // Slot -> index into symbols plus one, 0 for free; null while the scope is small.
+    private int[] index;
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    Symbol get(int nameId) {
+        int i = indexOf(nameId);
+        return i >= 0 ? symbols[i] : null;
+    }
+
+    Symbol at(int i) {
+        return symbols[i];
+    }
+
+    int idAt(int i) {
+        return ids[i];
+    }
+
+    // Adds symbol, or puts it in the place of the symbol with the same name, which is
+    // returned.
+    Symbol put(int nameId, Symbol symbol) {
+        int existing = indexOf(nameId);
+        if (existing < 0) {
+            return putIfAbsent(nameId, symbol);
+        }
+        Symbol replaced = symbols[existing];
+        symbols[existing] = symbol;
+        return replaced;
+    }
+
+    Symbol remove(int nameId) {
+        int i = indexOf(nameId);
+        if (i < 0) {
+            return null;
+        }
+        return removeAt(i);
+    }
+
+    // Later symbols move down one place, keeping insertion order.
+    Symbol removeAt(int i) {
+        Symbol removed = symbols[i];
+        System.arraycopy(ids, i + 1, ids, i, size - i - 1);
+        System.arraycopy(symbols, i + 1, symbols, i, size - i - 1);
+        symbols[--size] = null;
+        if (size > LINEAR_LIMIT) {
+            rebuildIndex();
+        } else {
+            index = null;
+        }
+        return removed;
+    }
+
+    void clear() {
+        Arrays.fill(symbols, 0, size, null);
+        size = 0;
+        index = null;
+    }
+
+    // Adds symbol unless its name is taken; returns the symbol already there, if any.
+    Symbol putIfAbsent(int nameId, Symbol symbol) {
+        int existing = indexOf(nameId);
+        if (existing >= 0) {
+            return symbols[existing];
+        }
+
+        if (size == symbols.length) {
+            int capacity = Math.max(4, size * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            symbols = Arrays.copyOf(symbols, capacity);
+        }
+        ids[size] = nameId;
+        symbols[size] = symbol;
+        size++;
+
+        if (index != null) {
+            if (size * 2 > index.length) {
+                rebuildIndex();
+            } else {
+                insertIntoIndex(size - 1);
+            }
+        } else if (size > LINEAR_LIMIT) {
+            rebuildIndex();
+        }
+        return null;
+    }
+
+    List<Symbol> toList() {
+        return new ArrayList<>(Arrays.asList(symbols).subList(0, size));
+    }
+
+    @Override
+    public Iterator<Symbol> iterator() {
+        return new Iterator<Symbol>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Symbol next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return symbols[next++];
+            }
+        };
+    }
+
+    private int indexOf(int nameId) {
+        if (index == null) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == nameId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        int mask = index.length - 1;
+        for (int slot = hash(nameId) & mask; ; slot = (slot + 1) & mask) {
+            int entry = index[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            if (ids[entry - 1] == nameId) {
+                return entry - 1;
+            }
+        }
+    }
+
+    // Keeps the index at most half full.
+    private void rebuildIndex() {
+        index = new int[Integer.highestOneBit(size * 4 - 1)];
+        for (int i = 0; i < size; i++) {
+            insertIntoIndex(i);
+        }
+    }
+
+    private void insertIntoIndex(int i) {
+        int mask = index.length - 1;
+        int slot = hash(ids[i]) & mask;
+        while (index[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        index[slot] = i + 1;
+    }
+
+    private static int hash(int nameId) {
+        int hash = nameId * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -1,18 +1,51 @@
 package phase2;
 
+import java.io.PrintStream;
 import java.util.*;
+import phase1.NamePool;
 
 public class SymbolTable {
     private String scopeName;
     private SymbolTable parent;
-    private Map<String, Symbol> symbols;
+    private SymbolMap symbols;
     private List<SymbolTable> children;
     private int scopeLevel;
     
+    // Interns the names declared anywhere in this tree; the symbol maps and filters are
+    // keyed by its ids.
+    private final NamePool namePool;
+    
+    // Bloom filter over the name ids declared here, two bits per id in one word. A
+    // clear bit proves a name is absent, so lookups skip this scope's map.
+    private long nameFilter;
+    
+    // Source offsets of this scope's body as ManualSymbolTableBuilder parsed it, from
+    // the '{' to just past the matching '}', or -1. The global scope's end is the source
+    // length once a build succeeds. bodyLine and bodyColumn are the position of the '{',
+    // and headerSymbols counts the symbols declared before the body, such as parameters.
+    private int bodyStart = -1;
+    private int bodyEnd = -1;
+    private int bodyLine;
+    private int bodyColumn;
+    private int headerSymbols;
+    
+    // Name of the symbol whose local scope this is, which Symbol keeps here instead of
+    // in its own field; set by the first symbol to claim it.
+    private String ownerName;
+    
+    // A root scope starts a tree with its own name pool; child scopes share their
+    // parent's.
     public SymbolTable(String scopeName, SymbolTable parent) {
+        this(scopeName, parent, parent != null ? parent.namePool : new NamePool());
+    }
+    
+    // Interns in namePool, which must be the parent's if there is one; lets detached
+    // trees that are merged later, or a caller's tokens, share ids with this tree.
+    SymbolTable(String scopeName, SymbolTable parent, NamePool namePool) {
         this.scopeName = scopeName;
         this.parent = parent;
-        this.symbols = new LinkedHashMap<>();
+        this.namePool = namePool;
+        this.symbols = new SymbolMap();
         this.children = new ArrayList<>();
         this.scopeLevel = parent != null ? parent.scopeLevel + 1 : 0;
         
@@ -21,40 +54,162 @@ public class SymbolTable {
         }
     }
     
+    // The symbol's name is replaced by the pooled String, so equal names are stored once.
     public void addSymbol(Symbol symbol) throws Exception {
-        if (symbols.containsKey(symbol.getName())) {
+        int nameId = namePool.intern(symbol.getName());
+        if (symbols.putIfAbsent(nameId, symbol) != null) {
             throw new Exception("Symbol '" + symbol.getName() + "' already exists in scope '" + scopeName + "'");
         }
-        symbols.put(symbol.getName(), symbol);
+        symbol.setName(namePool.name(nameId));
+        nameFilter |= filterBits(nameId);
+    }
+    
+    static long filterBits(int nameId) {
+        int hash = nameId * 0x9E3779B9;
+        return (1L << (hash >>> 26)) | (1L << ((hash >>> 20) & 63));
     }
     
     public Symbol lookup(String name) {
-        if (symbols.containsKey(name)) {
-            return symbols.get(name);
-        }
-        
-        if (parent != null) {
-            return parent.lookup(name);
+        int nameId = namePool.find(name);
+        return nameId >= 0 ? lookup(nameId) : null;
+    }
+    
+    // nameId is an id in getNamePool(). Walks the scope chain with at most one map probe
+    // per scope, and none in scopes whose filter rules the name out.
+    public Symbol lookup(int nameId) {
+        long bits = filterBits(nameId);
+        for (SymbolTable scope = this; scope != null; scope = scope.parent) {
+            if ((scope.nameFilter & bits) == bits) {
+                Symbol symbol = scope.symbols.get(nameId);
+                if (symbol != null) {
+                    return symbol;
+                }
+            }
         }
-        
         return null;
     }
     
     public Symbol lookupLocal(String name) {
-        return symbols.get(name);
+        int nameId = namePool.find(name);
+        return nameId >= 0 ? lookupLocal(nameId) : null;
+    }
+    
+    public Symbol lookupLocal(int nameId) {
+        long bits = filterBits(nameId);
+        return (nameFilter & bits) == bits ? symbols.get(nameId) : null;
     }
     
     public void addChild(SymbolTable child) {
         children.add(child);
     }
     
+    // Moves a scope built under another parent below this one. The child's tree must
+    // intern in the same pool, or its ids would mean other names here.
+    void adopt(SymbolTable child) {
+        if (child.namePool != namePool) {
+            throw new IllegalArgumentException("Scope '" + child.scopeName + "' uses another name pool");
+        }
+        if (child.parent != null) {
+            child.parent.children.remove(child);
+        }
+        child.parent = this;
+        child.setScopeLevel(scopeLevel + 1);
+        children.add(child);
+    }
+    
+    // Swaps in the symbols and child scopes of a body parsed again after an edit. The
+    // symbols must have distinct names; the old children are detached.
+    void replaceContents(List<Symbol> newSymbols, List<SymbolTable> newChildren) {
+        SymbolMap replaced = new SymbolMap();
+        long filter = 0;
+        for (Symbol symbol : newSymbols) {
+            int nameId = namePool.intern(symbol.getName());
+            replaced.putIfAbsent(nameId, symbol);
+            filter |= filterBits(nameId);
+        }
+        symbols = replaced;
+        nameFilter = filter;
+        
+        for (SymbolTable child : children) {
+            child.parent = null;
+        }
+        children.clear();
+        for (SymbolTable child : new ArrayList<>(newChildren)) {
+            adopt(child);
+        }
+    }
+    
+    String getOwnerName() { return ownerName; }
+    
+    // Records name as the owner name; false if a different name already is.
+    boolean claimOwnerName(String name) {
+        if (ownerName != null && !ownerName.equals(name)) {
+            return false;
+        }
+        ownerName = name;
+        return true;
+    }
+    
+    int getBodyStart() { return bodyStart; }
+    int getBodyEnd() { return bodyEnd; }
+    int getBodyLine() { return bodyLine; }
+    int getBodyColumn() { return bodyColumn; }
+    int getHeaderSymbols() { return headerSymbols; }
+    
+    void setBodyStart(int start, int line, int column) {
+        bodyStart = start;
+        bodyLine = line;
+        bodyColumn = column;
+        headerSymbols = symbols.size();
+    }
+    
+    void setBodyEnd(int end) {
+        bodyEnd = end;
+    }
+    
+    void setBody(int start, int end) {
+        bodyStart = start;
+        bodyEnd = end;
+    }
+    
+    void setBodyPosition(int line, int column) {
+        bodyLine = line;
+        bodyColumn = column;
+    }
+    
+    // Takes over the body span of the same declaration parsed again.
+    void copyBody(SymbolTable parsed) {
+        bodyStart = parsed.bodyStart;
+        bodyEnd = parsed.bodyEnd;
+        bodyLine = parsed.bodyLine;
+        bodyColumn = parsed.bodyColumn;
+        headerSymbols = parsed.headerSymbols;
+    }
+    
+    private void setScopeLevel(int level) {
+        scopeLevel = level;
+        for (SymbolTable child : children) {
+            child.setScopeLevel(level + 1);
+        }
+    }
+    
+    SymbolMap getSymbolMap() {
+        return symbols;
+    }
+    
+    // Immutable columnar copy of this scope and everything below it, for tables that
+    // are done being built and stay in memory.
+    public FrozenSymbolTable freeze() {
+        return new FrozenSymbolTable(this);
+    }
+    
     public List<Symbol> getAllSymbols() {
-        return new ArrayList<>(symbols.values());
+        return symbols.toList();
     }
     
     public List<Symbol> getSymbolsByType(Symbol.Type type) {
         List<Symbol> result = new ArrayList<>();
-        for (Symbol symbol : symbols.values()) {
+        for (Symbol symbol : symbols) {
             if (symbol.getSymbolType() == type) {
                 result.add(symbol);
             }
@@ -63,56 +218,74 @@ public class SymbolTable {
     }
     
     public void printTable() {
-        printTable(0);
+        printTable(System.out);
     }
     
-    private void printTable(int depth) {
+    public void printTable(PrintStream out) {
+        printTable(out, 0);
+    }
+    
+    private void printTable(PrintStream out, int depth) {
         String indent = "  ".repeat(depth);
-        System.out.println(indent + "=== " + scopeName + " (Level " + scopeLevel + ") ===");
-        System.out.println(indent + String.format("%-15s %-12s %-12s %-8s %s", 
+        out.println(indent + "=== " + scopeName + " (Level " + scopeLevel + ") ===");
+        out.println(indent + String.format("%-15s %-12s %-12s %-8s %s", 
             "Name", "Type", "DataType", "Access", "Details"));
-        System.out.println(indent + "-".repeat(70));
+        out.println(indent + "-".repeat(70));
         
         if (symbols.isEmpty()) {
-            System.out.println(indent + "No symbols in this scope");
+            out.println(indent + "No symbols in this scope");
         } else {
-            for (Symbol symbol : symbols.values()) {
-                System.out.println(indent + symbol.toString());
+            for (Symbol symbol : symbols) {
+                out.println(indent + symbol.toString());
             }
         }
         
-        System.out.println();
+        out.println();
         
         for (SymbolTable child : children) {
-            child.printTable(depth + 1);
+            child.printTable(out, depth + 1);
         }
     }
     
     public void generateReport() {
-        System.out.println("=".repeat(80));
-        System.out.println("                        SYMBOL TABLE REPORT");
-        System.out.println("=".repeat(80));
+        generateReport(System.out);
+    }
+    
+    public void generateReport(PrintStream out) {
+        ReportEvent event = new ReportEvent();
+        event.begin();
+
+        out.println("=".repeat(80));
+        out.println("                        SYMBOL TABLE REPORT");
+        out.println("=".repeat(80));
         
         Map<Symbol.Type, Integer> typeCount = new HashMap<>();
         countSymbolsByType(typeCount);
         
-        System.out.println("STATISTICS:");
-        System.out.println("-".repeat(40));
+        out.println("STATISTICS:");
+        out.println("-".repeat(40));
         for (Map.Entry<Symbol.Type, Integer> entry : typeCount.entrySet()) {
-            System.out.println(String.format("%-15s: %d", entry.getKey(), entry.getValue()));
+            out.println(String.format("%-15s: %d", entry.getKey(), entry.getValue()));
         }
-        System.out.println("-".repeat(40));
-        System.out.println(String.format("%-15s: %d", "Total Symbols", getTotalSymbolCount()));
-        System.out.println(String.format("%-15s: %d", "Scope Levels", getMaxScopeLevel()));
-        System.out.println();
+        out.println("-".repeat(40));
+        out.println(String.format("%-15s: %d", "Total Symbols", getTotalSymbolCount()));
+        out.println(String.format("%-15s: %d", "Scope Levels", getMaxScopeLevel()));
+        out.println();
         
-        printTable();
+        printTable(out);
         
-        System.out.println("=".repeat(80));
+        out.println("=".repeat(80));
+
+        if (event.shouldCommit()) {
+            event.scope = scopeName;
+            event.symbols = getTotalSymbolCount();
+            event.scopes = getScopeCount();
+            event.commit();
+        }
     }
     
     private void countSymbolsByType(Map<Symbol.Type, Integer> typeCount) {
-        for (Symbol symbol : symbols.values()) {
+        for (Symbol symbol : symbols) {
             typeCount.put(symbol.getSymbolType(), 
                 typeCount.getOrDefault(symbol.getSymbolType(), 0) + 1);
         }
@@ -122,7 +295,7 @@ public class SymbolTable {
         }
     }
     
-    private int getTotalSymbolCount() {
+    public int getTotalSymbolCount() {
         int count = symbols.size();
         for (SymbolTable child : children) {
             count += child.getTotalSymbolCount();
@@ -130,6 +303,14 @@ public class SymbolTable {
         return count;
     }
     
+    public int getScopeCount() {
+        int count = 1;
+        for (SymbolTable child : children) {
+            count += child.getScopeCount();
+        }
+        return count;
+    }
+    
     private int getMaxScopeLevel() {
         int maxLevel = scopeLevel;
         for (SymbolTable child : children) {
@@ -138,9 +319,99 @@ public class SymbolTable {
         return maxLevel;
     }
     
+    public NamePool getNamePool() { return namePool; }
     public String getScopeName() { return scopeName; }
     public SymbolTable getParent() { return parent; }
-    public Map<String, Symbol> getSymbols() { return symbols; }
+    public Map<String, Symbol> getSymbols() { return new SymbolView(); }
     public List<SymbolTable> getChildren() { return children; }
     public int getScopeLevel() { return scopeLevel; }
+    
+    // Live view of this scope's symbols by name in declaration order. Changes write
+    // through to the scope; a symbol can only be put under its own name.
+    private final class SymbolView extends AbstractMap<String, Symbol> {
+        @Override
+        public int size() {
+            return symbols.size();
+        }
+        
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+        
+        @Override
+        public Symbol get(Object key) {
+            return key instanceof String ? lookupLocal((String) key) : null;
+        }
+        
+        @Override
+        public Symbol put(String key, Symbol symbol) {
+            if (!key.equals(symbol.getName())) {
+                throw new IllegalArgumentException("Symbol '" + symbol.getName() + "' cannot be stored as '" + key + "'");
+            }
+            int nameId = namePool.intern(key);
+            nameFilter |= filterBits(nameId);
+            return symbols.put(nameId, symbol);
+        }
+        
+        @Override
+        public Symbol remove(Object key) {
+            int nameId = key instanceof String ? namePool.find((String) key) : -1;
+            return nameId >= 0 ? symbols.remove(nameId) : null;
+        }
+        
+        @Override
+        public void clear() {
+            symbols.clear();
+        }
+        
+        @Override
+        public Set<Map.Entry<String, Symbol>> entrySet() {
+            return new AbstractSet<Map.Entry<String, Symbol>>() {
+                @Override
+                public int size() {
+                    return symbols.size();
+                }
+                
+                @Override
+                public Iterator<Map.Entry<String, Symbol>> iterator() {
+                    return new Iterator<Map.Entry<String, Symbol>>() {
+                        private int next = 0;
+                        private int last = -1;
+                        
+                        @Override
+                        public boolean hasNext() {
+                            return next < symbols.size();
+                        }
+                        
+                        @Override
+                        public Map.Entry<String, Symbol> next() {
+                            if (next >= symbols.size()) {
+                                throw new NoSuchElementException();
+                            }
+                            last = next++;
+                            Symbol symbol = symbols.at(last);
+                            return new SimpleEntry<String, Symbol>(symbol.getName(), symbol) {
+                                @Override
+                                public Symbol setValue(Symbol value) {
+                                    super.setValue(value);
+                                    return put(getKey(), value);
+                                }
+                            };
+                        }
+                        
+                        @Override
+                        public void remove() {
+                            if (last < 0) {
+                                throw new IllegalStateException();
+                            }
+                            symbols.removeAt(last);
+                            next = last;
+                            last = -1;
+                        }
+                    };
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,35 @@
+package phase2;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("phase2.BuildSymbolTable")
+@Label("Build Symbol Table")
+@Category({"Java--", "Compiler"})
+@Description("Builds the symbol table of one token buffer")
+final class SymbolTableEvent extends jdk.jfr.Event {
+    @Label("File")
+    String file;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+
+    @Label("Tokens")
+    int tokens;
+
+    @Label("Symbols")
+    int symbols;
+
+    @Label("Scopes")
+    int scopes;
+
+    @Label("Parallel")
+    boolean parallel;
+
+    @Label("Failed")
+    boolean failed;
+}
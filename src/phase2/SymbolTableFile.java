@@ -0,0 +1,432 @@
+package phase2;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Symbol table stored on disk in the column layout of FrozenSymbolTable. open() maps
+// the file and checks its header only; every query reads the columns in place, so a
+// table is usable as soon as it is mapped. Scope indexes, symbol indexes and -1 for
+// none mean the same as in FrozenSymbolTable.
+//
+// File layout, all ints big-endian:
+//   magic "JMST", version, scope count, symbol count, string count, string index size,
+//   symbol index size, string data size in bytes
+//   string offsets (string count + 1), string index (string index + 1, 0 for free)
+//   per scope: name, parent, level, subtree end; symbol starts (scope count + 1)
+//   per scope: Bloom filter over its name strings as a long
+//   per symbol: name, modifier flags, data type or -1, line, column, local scope
+//   symbol index over (scope, name string) for scopes of more than eight symbols
+//   UTF-8 string data
+public final class SymbolTableFile {
+    private static final int MAGIC = 0x4A4D5354;
+    private static final int VERSION = 1;
+    private static final int HEADER_INTS = 8;
+    private static final int LINEAR_LIMIT = 8;
+
+    private final ByteBuffer data;
+    private final int scopeCount;
+    private final int symbolCount;
+    private final int stringCount;
+
+    private final int stringOffsets;
+    private final int stringIndex;
+    private final int stringIndexMask;
+    private final int scopeNames;
+    private final int scopeParents;
+    private final int scopeLevels;
+    private final int scopeEnds;
+    private final int symbolStarts;
+    private final int scopeFilters;
+    private final int symbolNames;
+    private final int symbolFlags;
+    private final int symbolDataTypes;
+    private final int symbolLines;
+    private final int symbolColumns;
+    private final int symbolLocalScopes;
+    private final int symbolIndex;
+    private final int symbolIndexMask;
+    private final int strings;
+
+    private SymbolTableFile(ByteBuffer data) throws IOException {
+        this.data = data;
+        if (data.capacity() < HEADER_INTS * 4 || data.getInt(0) != MAGIC) {
+            throw new IOException("Not a symbol table file");
+        }
+        if (data.getInt(4) != VERSION) {
+            throw new IOException("Unsupported symbol table file version " + data.getInt(4));
+        }
+        scopeCount = data.getInt(8);
+        symbolCount = data.getInt(12);
+        stringCount = data.getInt(16);
+        int stringIndexSize = data.getInt(20);
+        int symbolIndexSize = data.getInt(24);
+        int stringDataSize = data.getInt(28);
+
+        long at = HEADER_INTS * 4L;
+        stringOffsets = (int) at;
+        at += 4L * (stringCount + 1);
+        stringIndex = (int) at;
+        stringIndexMask = stringIndexSize - 1;
+        at += 4L * stringIndexSize;
+        scopeNames = (int) at;
+        at += 4L * scopeCount;
+        scopeParents = (int) at;
+        at += 4L * scopeCount;
+        scopeLevels = (int) at;
+        at += 4L * scopeCount;
+        scopeEnds = (int) at;
+        at += 4L * scopeCount;
+        symbolStarts = (int) at;
+        at += 4L * (scopeCount + 1);
+        scopeFilters = (int) at;
+        at += 8L * scopeCount;
+        symbolNames = (int) at;
+        at += 4L * symbolCount;
+        symbolFlags = (int) at;
+        at += 4L * symbolCount;
+        symbolDataTypes = (int) at;
+        at += 4L * symbolCount;
+        symbolLines = (int) at;
+        at += 4L * symbolCount;
+        symbolColumns = (int) at;
+        at += 4L * symbolCount;
+        symbolLocalScopes = (int) at;
+        at += 4L * symbolCount;
+        symbolIndex = (int) at;
+        symbolIndexMask = symbolIndexSize - 1;
+        at += 4L * symbolIndexSize;
+        strings = (int) at;
+        at += stringDataSize;
+
+        if (scopeCount < 1 || symbolCount < 0 || stringCount < 0 || Integer.bitCount(stringIndexSize) > 1
+            || Integer.bitCount(symbolIndexSize) > 1 || at != data.capacity()) {
+            throw new IOException("Damaged symbol table file");
+        }
+    }
+
+    public static SymbolTableFile open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new SymbolTableFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public static void write(SymbolTable table, Path file) throws IOException {
+        write(table.freeze(), file);
+    }
+
+    // Written to a temporary file first, so readers never map a half-written table.
+    public static void write(FrozenSymbolTable table, Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, encode(table));
+            try {
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static byte[] encode(FrozenSymbolTable table) {
+        int scopeCount = table.getScopeCount();
+        int symbolCount = table.getSymbolCount();
+
+        Map<String, Integer> stringIds = new LinkedHashMap<>();
+        int[] scopeNames = new int[scopeCount];
+        for (int scope = 0; scope < scopeCount; scope++) {
+            scopeNames[scope] = stringId(stringIds, table.getScopeName(scope));
+        }
+        int[] names = new int[symbolCount];
+        int[] dataTypes = new int[symbolCount];
+        for (int i = 0; i < symbolCount; i++) {
+            names[i] = stringId(stringIds, table.getName(i));
+            String dataType = table.getDataType(i);
+            dataTypes[i] = dataType != null ? stringId(stringIds, dataType) : -1;
+        }
+
+        byte[][] encoded = new byte[stringIds.size()][];
+        int stringDataSize = 0;
+        for (Map.Entry<String, Integer> entry : stringIds.entrySet()) {
+            encoded[entry.getValue()] = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            stringDataSize += encoded[entry.getValue()].length;
+        }
+        int[] stringIndex = new int[tableSize(encoded.length)];
+        int stringMask = stringIndex.length - 1;
+        int stringId = 0;
+        for (String string : stringIds.keySet()) {
+            int slot = hash(string.hashCode()) & stringMask;
+            while (stringIndex[slot] != 0) {
+                slot = (slot + 1) & stringMask;
+            }
+            stringIndex[slot] = ++stringId;
+        }
+
+        int indexed = 0;
+        for (int scope = 0; scope < scopeCount; scope++) {
+            int size = table.getSymbolEnd(scope) - table.getSymbolStart(scope);
+            if (size > LINEAR_LIMIT) {
+                indexed += size;
+            }
+        }
+        int[] symbolIndex = new int[indexed > 0 ? tableSize(indexed) : 0];
+        int symbolMask = symbolIndex.length - 1;
+        long[] filters = new long[scopeCount];
+        for (int scope = 0; scope < scopeCount; scope++) {
+            boolean large = table.getSymbolEnd(scope) - table.getSymbolStart(scope) > LINEAR_LIMIT;
+            for (int i = table.getSymbolStart(scope); i < table.getSymbolEnd(scope); i++) {
+                filters[scope] |= SymbolTable.filterBits(names[i]);
+                if (large) {
+                    int slot = hash(scope, names[i]) & symbolMask;
+                    while (symbolIndex[slot] != 0) {
+                        slot = (slot + 1) & symbolMask;
+                    }
+                    symbolIndex[slot] = i + 1;
+                }
+            }
+        }
+
+        long size = 4L * (HEADER_INTS + encoded.length + 1 + stringIndex.length + 5L * scopeCount + 1
+            + 2L * scopeCount + 6L * symbolCount + symbolIndex.length) + stringDataSize;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Symbol table too large for one file");
+        }
+        ByteBuffer out = ByteBuffer.allocate((int) size);
+        out.putInt(MAGIC).putInt(VERSION).putInt(scopeCount).putInt(symbolCount).putInt(encoded.length)
+            .putInt(stringIndex.length).putInt(symbolIndex.length).putInt(stringDataSize);
+
+        int offset = 0;
+        for (byte[] string : encoded) {
+            out.putInt(offset);
+            offset += string.length;
+        }
+        out.putInt(offset);
+        putInts(out, stringIndex);
+
+        putInts(out, scopeNames);
+        for (int scope = 0; scope < scopeCount; scope++) {
+            out.putInt(table.getParent(scope));
+        }
+        for (int scope = 0; scope < scopeCount; scope++) {
+            out.putInt(table.getScopeLevel(scope));
+        }
+        for (int scope = 0; scope < scopeCount; scope++) {
+            out.putInt(table.getSubtreeEnd(scope));
+        }
+        for (int scope = 0; scope < scopeCount; scope++) {
+            out.putInt(table.getSymbolStart(scope));
+        }
+        out.putInt(symbolCount);
+        for (long filter : filters) {
+            out.putLong(filter);
+        }
+
+        putInts(out, names);
+        for (int i = 0; i < symbolCount; i++) {
+            out.putInt(table.getFlags(i) & Symbol.MODIFIER_BITS);
+        }
+        putInts(out, dataTypes);
+        for (int i = 0; i < symbolCount; i++) {
+            out.putInt(table.getLine(i));
+        }
+        for (int i = 0; i < symbolCount; i++) {
+            out.putInt(table.getColumn(i));
+        }
+        for (int i = 0; i < symbolCount; i++) {
+            out.putInt(table.getLocalScope(i));
+        }
+        putInts(out, symbolIndex);
+
+        for (byte[] string : encoded) {
+            out.put(string);
+        }
+        return out.array();
+    }
+
+    private static int stringId(Map<String, Integer> stringIds, String string) {
+        Integer id = stringIds.get(string);
+        if (id == null) {
+            id = stringIds.size();
+            stringIds.put(string, id);
+        }
+        return id;
+    }
+
+    private static void putInts(ByteBuffer out, int[] values) {
+        for (int value : values) {
+            out.putInt(value);
+        }
+    }
+
+    // Power of two at least twice count, so probe chains stay short.
+    private static int tableSize(int count) {
+        return Math.max(2, Integer.highestOneBit(Math.max(1, count) * 4 - 1));
+    }
+
+    public int getScopeCount() { return scopeCount; }
+    public int getSymbolCount() { return symbolCount; }
+
+    public String getScopeName(int scope) { return string(intAt(scopeNames, scope)); }
+    public int getParent(int scope) { return intAt(scopeParents, scope); }
+    public int getScopeLevel(int scope) { return intAt(scopeLevels, scope); }
+    public int getSubtreeEnd(int scope) { return intAt(scopeEnds, scope); }
+
+    public int getFirstChild(int scope) {
+        return scope + 1 < getSubtreeEnd(scope) ? scope + 1 : -1;
+    }
+
+    public int getNextSibling(int scope) {
+        int parent = getParent(scope);
+        int end = getSubtreeEnd(scope);
+        return parent >= 0 && end < getSubtreeEnd(parent) ? end : -1;
+    }
+
+    public int getSymbolStart(int scope) { return intAt(symbolStarts, scope); }
+    public int getSymbolEnd(int scope) { return intAt(symbolStarts, scope + 1); }
+
+    public int getTotalSymbolCount(int scope) {
+        return intAt(symbolStarts, getSubtreeEnd(scope)) - getSymbolStart(scope);
+    }
+
+    public String getName(int symbol) { return string(intAt(symbolNames, symbol)); }
+    public Symbol.Type getSymbolType(int symbol) { return Symbol.typeOf(intAt(symbolFlags, symbol)); }
+
+    public String getDataType(int symbol) {
+        int dataType = intAt(symbolDataTypes, symbol);
+        return dataType >= 0 ? string(dataType) : null;
+    }
+
+    public int getLine(int symbol) { return intAt(symbolLines, symbol); }
+    public int getColumn(int symbol) { return intAt(symbolColumns, symbol); }
+    public int getLocalScope(int symbol) { return intAt(symbolLocalScopes, symbol); }
+
+    // A detached copy of the symbol; its local scope is left unset.
+    public Symbol getSymbol(int symbol) {
+        Symbol copy = new Symbol(getName(symbol), intAt(symbolFlags, symbol),
+            getLine(symbol), getColumn(symbol));
+        copy.setDataType(getDataType(symbol));
+        return copy;
+    }
+
+    public int lookup(int scope, String name) {
+        int nameId = findString(name);
+        if (nameId < 0) {
+            return -1;
+        }
+        long bits = SymbolTable.filterBits(nameId);
+        for (; scope >= 0; scope = getParent(scope)) {
+            if ((data.getLong(scopeFilters + 8 * scope) & bits) == bits) {
+                int symbol = find(scope, nameId);
+                if (symbol >= 0) {
+                    return symbol;
+                }
+            }
+        }
+        return -1;
+    }
+
+    public int lookupLocal(int scope, String name) {
+        int nameId = findString(name);
+        if (nameId < 0) {
+            return -1;
+        }
+        long bits = SymbolTable.filterBits(nameId);
+        return (data.getLong(scopeFilters + 8 * scope) & bits) == bits ? find(scope, nameId) : -1;
+    }
+
+    public int[] getSymbolsByType(int scope, Symbol.Type type) {
+        int start = getSymbolStart(scope);
+        int end = getSymbolEnd(scope);
+        int[] result = new int[end - start];
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            if (getSymbolType(i) == type) {
+                result[count++] = i;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private int find(int scope, int nameId) {
+        int start = getSymbolStart(scope);
+        int end = getSymbolEnd(scope);
+        if (end - start <= LINEAR_LIMIT) {
+            for (int i = start; i < end; i++) {
+                if (intAt(symbolNames, i) == nameId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        for (int slot = hash(scope, nameId) & symbolIndexMask; ; slot = (slot + 1) & symbolIndexMask) {
+            int entry = intAt(symbolIndex, slot);
+            if (entry == 0) {
+                return -1;
+            }
+            if (entry - 1 >= start && entry - 1 < end && intAt(symbolNames, entry - 1) == nameId) {
+                return entry - 1;
+            }
+        }
+    }
+
+    // Index of name in the string table, or -1; compares bytes in place.
+    private int findString(String name) {
+        if (stringCount == 0) {
+            return -1;
+        }
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        for (int slot = hash(name.hashCode()) & stringIndexMask; ; slot = (slot + 1) & stringIndexMask) {
+            int entry = intAt(stringIndex, slot);
+            if (entry == 0) {
+                return -1;
+            }
+            int start = intAt(stringOffsets, entry - 1);
+            int end = intAt(stringOffsets, entry);
+            if (end - start == bytes.length && matches(strings + start, bytes)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    private boolean matches(int at, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (data.get(at + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String string(int id) {
+        int start = intAt(stringOffsets, id);
+        byte[] bytes = new byte[intAt(stringOffsets, id + 1) - start];
+        data.duplicate().position(strings + start).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private int intAt(int section, int i) {
+        return data.getInt(section + 4 * i);
+    }
+
+    private static int hash(int value) {
+        int hash = value * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int hash(int scope, int nameId) {
+        return hash(nameId + scope * 0x85EBCA6B);
+    }
+}